@@ -0,0 +1,69 @@
+#!/usr/bin/env bash
+# Cold-start benchmark: time from launching the app to the first successful POST /api/score.
+#
+#   scripts/startup-benchmark.sh [runs] -- <command that starts the app on $PORT>
+#
+#   scripts/startup-benchmark.sh 5 -- docker run --rm --network host -e DB_HOST=127.0.0.1 today-lotto:faststart
+#   scripts/startup-benchmark.sh 5 -- docker run --rm -p 8080:8080 today-lotto:faststart-edge
+#   scripts/startup-benchmark.sh 5 -- java -jar build/libs/today-lotto-backend-0.0.1-SNAPSHOT.jar
+#
+# Prints one line per run and a final "startup_ms runs=.. min=.. median=.. max=.." line for tracking.
+# Each run posts a new sessionSeed, so the first score is computed rather than read from horoscope_cache.
+# Env: PORT (8080), TIMEOUT_SECONDS (120), QUESTION_IDS (1,2,3,4,5,6; must exist in the loaded content).
+set -euo pipefail
+
+runs=5
+if [[ $# -gt 0 && $1 != "--" ]]; then runs=$1; shift; fi
+[[ ${1:-} == "--" ]] && shift
+if [[ $# -eq 0 ]]; then
+  sed -n '2,12p' "$0" | sed 's/^# \{0,1\}//'
+  exit 2
+fi
+
+port=${PORT:-8080}
+timeout_s=${TIMEOUT_SECONDS:-120}
+IFS=',' read -ra ids <<< "${QUESTION_IDS:-1,2,3,4,5,6}"
+
+answers=""
+for id in "${ids[@]}"; do answers+="${answers:+,}{\"questionId\":$id,\"value\":3}"; done
+
+# epoch milliseconds: bash 5 has EPOCHREALTIME; macOS ships bash 3.2 and a BSD date without %N
+if [[ -n ${EPOCHREALTIME:-} ]]; then
+  now_ms() { local us=${EPOCHREALTIME/[.,]/}; echo $((us / 1000)); }
+else
+  now_ms() { perl -MTime::HiRes=time -e 'printf "%d\n", time * 1000'; }
+fi
+
+results=()
+for ((run = 1; run <= runs; run++)); do
+  start=$(now_ms)
+  body="{\"birthDate\":\"1990-05-17\",\"sessionSeed\":\"startup-benchmark-$start-$$-$run\",\"answers\":[$answers]}"
+  "$@" > /dev/null 2>&1 &
+  pid=$!
+  elapsed=""
+  while kill -0 "$pid" 2> /dev/null; do
+    code=$(curl -s -o /dev/null -w '%{http_code}' -H 'Content-Type: application/json' -d "$body" \
+      "http://localhost:$port/api/score" || true)
+    if [[ $code == 200 ]]; then
+      elapsed=$(( $(now_ms) - start ))
+      break
+    fi
+    if (( $(now_ms) - start > timeout_s * 1000 )); then break; fi
+    sleep 0.02
+  done
+  kill -TERM "$pid" 2> /dev/null || true
+  wait "$pid" 2> /dev/null || true
+
+  if [[ -z $elapsed ]]; then
+    echo "run $run: no successful /api/score (exited or timed out after ${timeout_s}s)" >&2
+    exit 1
+  fi
+  echo "run $run: ${elapsed} ms"
+  results+=("$elapsed")
+  # let the port close before the next launch
+  while curl -s -o /dev/null "http://localhost:$port/" 2> /dev/null; do sleep 0.1; done
+done
+
+sorted=($(printf '%s\n' "${results[@]}" | sort -n))
+n=${#sorted[@]}
+echo "startup_ms runs=$n min=${sorted[0]} median=${sorted[$((n / 2))]} max=${sorted[$((n - 1))]}"
@@ -0,0 +1,64 @@
+package com.todaylotto.backend.bench;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.todaylotto.backend.domain.AxisVector;
+import com.todaylotto.backend.util.Condition;
+import com.todaylotto.backend.util.ConditionCompiler;
+import com.todaylotto.backend.util.ConditionContext;
+import com.todaylotto.backend.util.ConditionEvaluator;
+import com.todaylotto.backend.util.TagDictionary;
+import com.todaylotto.backend.util.TagSet;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * conditions_json evaluation: per-call JSON interpretation vs. load-time compiled predicates.
+ * One operation evaluates every document against the same context, like one candidate scan.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ConditionBenchmark {
+
+  private static final String[] DOCUMENTS = {
+      null,
+      "{\"all\": [{\"type\": \"axis\", \"axis\": \"STABILITY\", \"op\": \"<=\", \"value\": 40}]}",
+      "{\"all\": [{\"type\": \"axis\", \"axis\": \"ENERGY\", \"op\": \">=\", \"value\": 65}]}",
+      "{\"all\": [{\"type\": \"axis\", \"axis\": \"OPTIMISM\", \"op\": \">=\", \"value\": 70}]}",
+      "{\"all\": [{\"type\": \"axis\", \"axis\": \"RISK\", \"op\": \"<=\", \"value\": 70},"
+          + " {\"type\": \"score\", \"op\": \">=\", \"value\": 30}]}",
+      "{\"any\": [{\"type\": \"tag\", \"op\": \"has\", \"value\": \"MONEY_TIGHT\"},"
+          + " {\"type\": \"axis\", \"axis\": \"FIN_EASE\", \"op\": \"<=\", \"value\": 40}]}"
+  };
+
+  private ConditionEvaluator evaluator;
+  private Condition[] compiled;
+  private ConditionContext ctx;
+
+  @Setup
+  public void setup() {
+    evaluator = new ConditionEvaluator(new ObjectMapper());
+    TagDictionary dictionary = TagDictionary.of(List.of("LUCKY_VIBE", "MONEY_TIGHT"));
+    compiled = new Condition[DOCUMENTS.length];
+    for (int i = 0; i < DOCUMENTS.length; i++) compiled[i] = ConditionCompiler.compile(DOCUMENTS[i], dictionary);
+
+    AxisVector axes = AxisVector.filled(55);
+    TagSet tags = dictionary.newSet();
+    tags.add("LUCKY_VIBE");
+    tags.add("MONEY_TIGHT");
+    ctx = new ConditionContext(62, axes, tags);
+  }
+
+  @Benchmark
+  public void evaluatorMatches(Blackhole bh) {
+    for (String doc : DOCUMENTS) bh.consume(evaluator.matches(doc, ctx));
+  }
+
+  @Benchmark
+  public void compiledTest(Blackhole bh) {
+    for (Condition c : compiled) bh.consume(c.test(ctx));
+  }
+}
@@ -0,0 +1,113 @@
+package com.todaylotto.backend.bench;
+
+import com.todaylotto.backend.content.JpaContentSource;
+import com.todaylotto.backend.repo.QuestionRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory H2 (MySQL mode) holding the Flyway migrations, plus the JPA wiring {@link JpaContentSource} needs.
+ * - Scripts run in version order with three MySQL-only bits rewritten: SET lines are dropped, table options
+ *   (ENGINE/CHARSET/COLLATE) are cut, and JSON columns become VARCHAR (H2 would store the seed text as a JSON string)
+ * - Hibernate only reads, with the same naming strategy as the app and no schema validation
+ */
+@Configuration
+@EnableTransactionManagement
+@EnableJpaRepositories(basePackageClasses = QuestionRepository.class)
+class ContentDbFixture {
+  private static final String URL = "jdbc:h2:mem:content;MODE=MySQL;NON_KEYWORDS=VALUE;DB_CLOSE_DELAY=-1";
+  private static final String USER = "sa";
+  private static final String PASSWORD = "";
+
+  private static final Pattern VERSION = Pattern.compile("V(\\d+)__");
+
+  /** Context with JpaContentSource enabled (app.content.source=jpa), as the app would build it. */
+  static AnnotationConfigApplicationContext context() {
+    AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+    context.getEnvironment().getPropertySources()
+        .addFirst(new MapPropertySource("bench", Map.of("app.content.source", "jpa")));
+    context.register(ContentDbFixture.class, JpaContentSource.class);
+    context.refresh();
+    return context;
+  }
+
+  @Bean
+  DataSource dataSource() {
+    DataSource dataSource = new DriverManagerDataSource(URL, USER, PASSWORD);
+    ResourceDatabasePopulator populator = new ResourceDatabasePopulator();
+    populator.setSqlScriptEncoding(StandardCharsets.UTF_8.name());
+    for (Resource script : migrations()) populator.addScript(forH2(script));
+    populator.execute(dataSource);
+    return dataSource;
+  }
+
+  @Bean
+  LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource) {
+    LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+    factory.setDataSource(dataSource);
+    factory.setPackagesToScan("com.todaylotto.backend.domain");
+    factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+    factory.setJpaPropertyMap(Map.of(
+        "hibernate.hbm2ddl.auto", "none",
+        "hibernate.physical_naming_strategy", CamelCaseToUnderscoresNamingStrategy.class.getName()));
+    return factory;
+  }
+
+  @Bean
+  PlatformTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+    return new JpaTransactionManager(entityManagerFactory);
+  }
+
+  private static Resource[] migrations() {
+    try {
+      Resource[] scripts = new PathMatchingResourcePatternResolver().getResources("classpath:db/migration/V*__*.sql");
+      Arrays.sort(scripts, Comparator.comparingInt(ContentDbFixture::version));
+      return scripts;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static int version(Resource script) {
+    Matcher m = VERSION.matcher(script.getFilename());
+    if (!m.find()) throw new IllegalStateException("Not a migration: " + script.getFilename());
+    return Integer.parseInt(m.group(1));
+  }
+
+  private static Resource forH2(Resource script) {
+    try {
+      String sql = script.getContentAsString(StandardCharsets.UTF_8)
+          .replaceAll("(?m)^SET .*$", "")
+          .replaceAll("\\)\\s*ENGINE=[^;]*;", ");")
+          .replaceAll("\\bJSON\\b", "VARCHAR(4000)");
+      return new ByteArrayResource(sql.getBytes(StandardCharsets.UTF_8), script.getFilename());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,67 @@
+package com.todaylotto.backend.bench;
+
+import com.todaylotto.backend.content.ContentSnapshotFile;
+import com.todaylotto.backend.content.ContentSource;
+import com.todaylotto.backend.content.ContentTables;
+import com.todaylotto.backend.content.JdbcContentSource;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One full content load (all 11 pool tables into ContentTables) per source, over the same migrated tables.
+ * - jdbc: JdbcContentSource, rows straight into records
+ * - jpa: {@link com.todaylotto.backend.content.JpaContentSource}, entities through the repositories in a
+ *   read-only transaction
+ * - snapshotFile: ContentSnapshotFile.read of the same content, what edge nodes do instead
+ * The database is in-memory H2 (ContentDbFixture), so this compares the mapping cost, not MySQL round trips;
+ * gc.alloc.rate.norm from the gc profiler is the bytes allocated per load.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ContentLoadBenchmark {
+
+  private AnnotationConfigApplicationContext context;
+  private ContentSource jdbc;
+  private ContentSource jpa;
+  private Path snapshot;
+
+  @Setup
+  public void setup() throws IOException {
+    context = ContentDbFixture.context();
+    jpa = context.getBean(ContentSource.class); // the transactional proxy around JpaContentSource
+    // H2 rejects the MySQL streaming fetch size, so the driver default is used here
+    jdbc = new JdbcContentSource(context.getBean(DataSource.class), 0);
+    ContentTables tables = jdbc.load();
+    if (!tables.equals(jpa.load())) throw new IllegalStateException("jdbc and jpa sources read different content");
+    snapshot = Files.createTempFile("content", ".snapshot");
+    ContentSnapshotFile.write(tables, snapshot);
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    context.close();
+    Files.deleteIfExists(snapshot);
+  }
+
+  @Benchmark
+  public ContentTables jdbc() {
+    return jdbc.load();
+  }
+
+  @Benchmark
+  public ContentTables jpa() {
+    return jpa.load();
+  }
+
+  @Benchmark
+  public ContentTables snapshotFile() {
+    return ContentSnapshotFile.read(snapshot);
+  }
+}
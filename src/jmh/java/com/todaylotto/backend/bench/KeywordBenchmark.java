@@ -0,0 +1,32 @@
+package com.todaylotto.backend.bench;
+
+import com.todaylotto.backend.content.ContentSnapshot;
+import com.todaylotto.backend.service.KeywordService;
+import com.todaylotto.backend.util.SeededRng;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * KeywordService.analyze over the sample extra texts against the full seed dictionary.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class KeywordBenchmark {
+
+  private final KeywordService keywordService = new KeywordService();
+  private ContentSnapshot content;
+
+  @Setup
+  public void setup() {
+    content = SeedFixture.snapshot();
+  }
+
+  @Benchmark
+  public void analyze(Blackhole bh) {
+    SeededRng rng = new SeededRng("3f2c1b4a-5d6e-4f70-8a9b-0c1d2e3f4a5b");
+    for (String text : SeedFixture.EXTRA_TEXTS) bh.consume(keywordService.analyze(content, text, rng));
+  }
+}
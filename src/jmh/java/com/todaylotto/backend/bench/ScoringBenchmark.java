@@ -0,0 +1,79 @@
+package com.todaylotto.backend.bench;
+
+import com.todaylotto.backend.api.dto.PostScoreRequest;
+import com.todaylotto.backend.content.ContentCatalog;
+import com.todaylotto.backend.service.ScoreField;
+import com.todaylotto.backend.service.ScoringService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full ScoringService.score over seed content, cycling through a fixed set of generated requests.
+ * - uncached: memo cache disabled, so every call runs the whole pipeline
+ * - cached: every request is a repeat, the retry/refresh case
+ * - instrumented: uncached with per-stage metrics on, to keep an eye on probe overhead
+ * - parallelStages: uncached with strategy/cards/longform running concurrently
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ScoringBenchmark {
+
+  private static final int REQUESTS = 1024;
+
+  private List<PostScoreRequest> requests;
+  private ScoringService uncached;
+  private ScoringService cached;
+  private ScoringService instrumented;
+  private ScoringService parallelStages;
+  private int next;
+
+  @Setup
+  public void setup() {
+    ContentCatalog catalog = SeedFixture.catalog();
+    requests = SeedFixture.requests(REQUESTS);
+    uncached = SeedFixture.scoringService(catalog, 0, false, false);
+    cached = SeedFixture.scoringService(catalog, 64L * 1024 * 1024, false, false);
+    instrumented = SeedFixture.scoringService(catalog, 0, true, false);
+    parallelStages = SeedFixture.scoringService(catalog, 0, false, true);
+    for (PostScoreRequest req : requests) cached.score(req);
+  }
+
+  private PostScoreRequest nextRequest() {
+    PostScoreRequest req = requests.get(next);
+    next = (next + 1) % REQUESTS;
+    return req;
+  }
+
+  @Benchmark
+  public Object scoreUncached() {
+    return uncached.score(nextRequest());
+  }
+
+  @Benchmark
+  public Object scoreLite() {
+    return uncached.score(nextRequest(), ScoreField.NONE);
+  }
+
+  @Benchmark
+  public Object sensitivity() {
+    return uncached.sensitivity(nextRequest());
+  }
+
+  @Benchmark
+  public Object scoreInstrumented() {
+    return instrumented.score(nextRequest());
+  }
+
+  @Benchmark
+  public Object scoreParallelStages() {
+    return parallelStages.score(nextRequest());
+  }
+
+  @Benchmark
+  public Object scoreCached() {
+    return cached.score(nextRequest());
+  }
+}
@@ -0,0 +1,102 @@
+package com.todaylotto.backend.bench;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.todaylotto.backend.api.dto.AnswerDto;
+import com.todaylotto.backend.api.dto.PostScoreRequest;
+import com.todaylotto.backend.content.ContentCatalog;
+import com.todaylotto.backend.content.ContentSnapshot;
+import com.todaylotto.backend.content.ContentTables;
+import com.todaylotto.backend.content.ContentTables.QuestionRow;
+import com.todaylotto.backend.content.SeedSqlContentSource;
+import com.todaylotto.backend.service.KeywordService;
+import com.todaylotto.backend.service.LongformService;
+import com.todaylotto.backend.service.MessageService;
+import com.todaylotto.backend.service.ScoreCache;
+import com.todaylotto.backend.service.ScoreMetrics;
+import com.todaylotto.backend.service.ScoreStats;
+import com.todaylotto.backend.service.ScoreStore;
+import com.todaylotto.backend.service.ScoringService;
+import com.todaylotto.backend.service.StrategyService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Seed-SQL content and wiring shared by the benchmarks; no database or Spring context.
+ * Requests are generated from a fixed seed so every run measures the same inputs.
+ */
+final class SeedFixture {
+  static final List<String> EXTRA_TEXTS = List.of(
+      "",
+      "오늘 너무 피곤하고 졸려요",
+      "월급날이라 기분 좋아! 로또 한 장?",
+      "스트레스 받아서 충동구매 할 것 같아",
+      "꿈에서 돼지를 봤어요 ㅋㅋ 느낌이 좋다",
+      "야근 끝나고 퇴근길인데 카드값이 걱정이네"
+  );
+
+  private static final ContentTables TABLES = new SeedSqlContentSource().load();
+
+  private SeedFixture() {}
+
+  static ContentTables tables() {
+    return TABLES;
+  }
+
+  static ContentCatalog catalog() {
+    ContentCatalog catalog = new ContentCatalog(() -> TABLES);
+    catalog.init();
+    return catalog;
+  }
+
+  static ContentSnapshot snapshot() {
+    return ContentSnapshot.of(TABLES);
+  }
+
+  /** maxCacheBytes 0 measures the full pipeline on every call. */
+  static ScoringService scoringService(
+      ContentCatalog catalog, long maxCacheBytes, boolean metrics, boolean parallelStages) {
+    ScoreCache cache = new ScoreCache(maxCacheBytes);
+    return new ScoringService(
+        new KeywordService(),
+        new LongformService(),
+        new StrategyService(),
+        new MessageService(),
+        catalog,
+        cache,
+        noStore(),
+        new ScoreMetrics(new SimpleMeterRegistry(), cache, metrics),
+        new ScoreStats(catalog, new SimpleMeterRegistry(), metrics, 20, 60),
+        parallelStages,
+        0
+    );
+  }
+
+  /** L2 turned off: the benchmarks never touch a database. */
+  static ScoreStore noStore() {
+    return new ScoreStore(null, new ObjectMapper(), new SimpleMeterRegistry(), false, Duration.ofDays(3), 1, 1, 1);
+  }
+
+  static List<PostScoreRequest> requests(int count) {
+    List<QuestionRow> questions = TABLES.questions();
+    SplittableRandom random = new SplittableRandom(20240601L);
+    List<PostScoreRequest> out = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      List<AnswerDto> answers = new ArrayList<>(6);
+      for (int k = 0; k < 6; k++) {
+        answers.add(new AnswerDto(questions.get(random.nextInt(questions.size())).id(), 1 + random.nextInt(5)));
+      }
+      out.add(new PostScoreRequest(
+          String.format("1990-%02d-15", 1 + random.nextInt(12)),
+          new UUID(random.nextLong(), random.nextLong()).toString(),
+          answers,
+          EXTRA_TEXTS.get(random.nextInt(EXTRA_TEXTS.size()))
+      ));
+    }
+    return out;
+  }
+}
@@ -0,0 +1,36 @@
+package com.todaylotto.backend.bench;
+
+import com.todaylotto.backend.service.SessionSeedGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Session seed generation with every core calling at once:
+ * UUID.randomUUID() (one shared SecureRandom) vs. per-thread DRBGs.
+ */
+@State(Scope.Benchmark)
+@Threads(Threads.MAX)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SessionSeedBenchmark {
+
+  private final SessionSeedGenerator random = new SessionSeedGenerator(1, false);
+  private final SessionSeedGenerator timeOrdered = new SessionSeedGenerator(1, true);
+
+  @Benchmark
+  public String randomUuid() {
+    return UUID.randomUUID().toString();
+  }
+
+  @Benchmark
+  public String generator() {
+    return random.next();
+  }
+
+  @Benchmark
+  public String generatorTimeOrdered() {
+    return timeOrdered.next();
+  }
+}
@@ -0,0 +1,70 @@
+package com.todaylotto.backend.bench;
+
+import com.todaylotto.backend.content.ContentTables.MessageRow;
+import com.todaylotto.backend.util.TagDictionary;
+import com.todaylotto.backend.util.TagSet;
+import com.todaylotto.backend.util.TagUtils;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * required/blocked tag checks over every seed message row:
+ * CSV parse + HashSet per check (the former TagUtils.containsAll/containsAny) vs. precomputed bitmasks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TagMatchBenchmark {
+
+  private static final List<String> REQUEST_TAGS =
+      List.of("MONEY_TIGHT", "LUCKY_VIBE", "ENERGY_LOW_TAG", "STABILITY_LOW", "DONT_BUY_TODAY");
+
+  private List<MessageRow> rows;
+  private Set<String> stringTags;
+
+  private long[][] required;
+  private long[][] blocked;
+  private TagSet tagSet;
+
+  @Setup
+  public void setup() {
+    rows = SeedFixture.tables().messages();
+    stringTags = new HashSet<>(REQUEST_TAGS);
+
+    TagDictionary dictionary = SeedFixture.snapshot().tags();
+    required = new long[rows.size()][];
+    blocked = new long[rows.size()][];
+    for (int i = 0; i < rows.size(); i++) {
+      required[i] = dictionary.mask(rows.get(i).requiredTags());
+      blocked[i] = dictionary.mask(rows.get(i).blockedTags());
+    }
+    tagSet = dictionary.newSet();
+    REQUEST_TAGS.forEach(tagSet::add);
+  }
+
+  @Benchmark
+  public void csvSets(Blackhole bh) {
+    for (MessageRow m : rows) {
+      boolean ok = stringTags.containsAll(TagUtils.parseCsv(m.requiredTags()));
+      if (ok) {
+        for (String b : TagUtils.parseCsv(m.blockedTags())) {
+          if (stringTags.contains(b)) {
+            ok = false;
+            break;
+          }
+        }
+      }
+      bh.consume(ok);
+    }
+  }
+
+  @Benchmark
+  public void bitmasks(Blackhole bh) {
+    for (int i = 0; i < required.length; i++) {
+      bh.consume(tagSet.containsAll(required[i]) && !tagSet.containsAny(blocked[i]));
+    }
+  }
+}
@@ -0,0 +1,49 @@
+package com.todaylotto.backend.bench;
+
+import com.todaylotto.backend.content.ContentTables.LongformRow;
+import com.todaylotto.backend.util.CompiledTemplate;
+import com.todaylotto.backend.util.TemplateRenderer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Longform template rendering: per-call regex extract + render vs. load-time compiled segments.
+ * One operation renders every seed longform template once.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TemplateBenchmark {
+
+  private String[] templates;
+  private CompiledTemplate[] compiled;
+
+  @Setup
+  public void setup() {
+    templates = SeedFixture.tables().longformBlocks().stream().map(LongformRow::textTemplate).toArray(String[]::new);
+    compiled = new CompiledTemplate[templates.length];
+    for (int i = 0; i < templates.length; i++) compiled[i] = CompiledTemplate.compile(key -> 0, templates[i]);
+  }
+
+  @Benchmark
+  public void regexRender(Blackhole bh) {
+    for (String template : templates) {
+      Map<String, String> values = new HashMap<>();
+      for (String slot : TemplateRenderer.extractSlots(template)) values.put(slot, "가볍게 한 장");
+      bh.consume(TemplateRenderer.render(template, values));
+    }
+  }
+
+  @Benchmark
+  public void compiledRender(Blackhole bh) {
+    for (CompiledTemplate template : compiled) {
+      String[] values = new String[template.slotCount()];
+      for (int i = 0; i < values.length; i++) values[i] = "가볍게 한 장";
+      bh.consume(template.render(0, values));
+    }
+  }
+}
@@ -0,0 +1,41 @@
+package com.todaylotto.backend.bench;
+
+import com.todaylotto.backend.content.ContentTables.PhraseRow;
+import com.todaylotto.backend.util.CumulativeWeights;
+import com.todaylotto.backend.util.SeededRng;
+import com.todaylotto.backend.util.WeightedPicker;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Weighted picks over the whole phrase pool: linear two-pass picker vs. precomputed prefix sums.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class WeightedPickBenchmark {
+
+  private List<PhraseRow> phrases;
+  private CumulativeWeights weights;
+  private SeededRng rng;
+
+  @Setup
+  public void setup() {
+    phrases = SeedFixture.tables().phrases();
+    weights = CumulativeWeights.of(phrases.stream().mapToInt(p -> Math.max(1, p.weight())).toArray());
+    rng = new SeededRng("8c6f2b1e-0d7a-4e0b-9f3c-5a1d2e3f4b5c");
+  }
+
+  @Benchmark
+  public void linearPick(Blackhole bh) {
+    bh.consume(WeightedPicker.pickWeighted(phrases, p -> Math.max(1, p.weight()), rng));
+  }
+
+  @Benchmark
+  public void cumulativePick(Blackhole bh) {
+    bh.consume(phrases.get(weights.pick(rng)));
+  }
+}
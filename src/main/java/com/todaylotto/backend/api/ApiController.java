@@ -1,51 +1,256 @@
 package com.todaylotto.backend.api;
 
-
-import com.todaylotto.backend.api.dto.ChoiceDto;
-import com.todaylotto.backend.api.dto.GetQuestionsResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.todaylotto.backend.api.dto.LongformSectionEvent;
+import com.todaylotto.backend.api.dto.ScoreVariantDto;
+import com.todaylotto.backend.api.dto.SensitivityResponse;
+import com.todaylotto.backend.api.dto.WhatIfRequest;
 import com.todaylotto.backend.api.dto.PostScoreRequest;
 import com.todaylotto.backend.api.dto.PostScoreResponse;
-import com.todaylotto.backend.api.dto.QuestionDto;
-import com.todaylotto.backend.repo.ChoiceRepository;
-import com.todaylotto.backend.service.QuestionService;
+import com.todaylotto.backend.service.BatchScoringService;
+import com.todaylotto.backend.service.BatchScoringService.BatchInput;
+import com.todaylotto.backend.service.QuestionSetPool;
+import com.todaylotto.backend.service.ReportRequests;
+import com.todaylotto.backend.service.ScoreField;
 import com.todaylotto.backend.service.ScoringService;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api")
 public class ApiController {
-  private final QuestionService questionService;
-  private final ChoiceRepository choiceRepository;
+  private final QuestionSetPool questionSetPool;
   private final ScoringService scoringService;
+  private final BatchScoringService batchScoringService;
+  private final ReportRequests reportRequests;
+  private final ObjectMapper objectMapper;
 
-  public ApiController(QuestionService questionService, ChoiceRepository choiceRepository, ScoringService scoringService) {
-    this.questionService = questionService;
-    this.choiceRepository = choiceRepository;
+  public ApiController(
+      QuestionSetPool questionSetPool,
+      ScoringService scoringService,
+      BatchScoringService batchScoringService,
+      ReportRequests reportRequests,
+      ObjectMapper objectMapper
+  ) {
+    this.questionSetPool = questionSetPool;
     this.scoringService = scoringService;
+    this.batchScoringService = batchScoringService;
+    this.reportRequests = reportRequests;
+    this.objectMapper = objectMapper;
   }
 
-  @GetMapping("/questions")
-  public GetQuestionsResponse getQuestions() {
-    QuestionService.QuestionSelection selection = questionService.generateQuestionSet();
+  /** Body comes pre-serialized from the question set pool; one GetQuestionsResponse per call. */
+  @GetMapping(value = "/questions", produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<byte[]> getQuestions() {
+    return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(questionSetPool.take());
+  }
 
-    List<QuestionDto> questions = selection.questions().stream()
-        .map(q -> new QuestionDto(q.getId(), q.getBucket().name(), q.getText()))
-        .toList();
+  /**
+   * mode=lite returns actionConclusion/score/grade/tone only; fields= (comma separated JSON names) picks parts.
+   * Stages behind parts that are not returned are skipped; a partial response carries a reportKey for /score/report.
+   */
+  @PostMapping("/score")
+  public PostScoreResponse score(
+      @Valid @RequestBody PostScoreRequest req,
+      @RequestParam(required = false) String mode,
+      @RequestParam(required = false) String fields
+  ) {
+    Set<ScoreField> parts = ScoreField.parse(mode, fields);
+    PostScoreResponse response = scoringService.score(req, parts);
+    if (parts.size() == ScoreField.ALL.size()) return response;
+    return response.withReportKey(reportRequests.hold(req));
+  }
 
-    List<ChoiceDto> choices = choiceRepository.findAll().stream()
-        .sorted((a, b) -> Integer.compare(a.getValue(), b.getValue()))
-        .map(c -> new ChoiceDto(c.getValue(), c.getLabel()))
-        .toList();
+  /**
+   * Expensive report parts for an earlier partial /score call, generated on demand.
+   * - key is that response's reportKey, so no user input appears in the URL
+   * - Keys are kept per node for app.score-report.ttl; an unknown key is a 404 and the client posts /score again
+   * - Same inputs give exactly the text a full /score would have returned
+   */
+  @GetMapping("/score/report")
+  public PostScoreResponse scoreReport(
+      @RequestParam String key,
+      @RequestParam(defaultValue = "longformText,strategyCards") String fields
+  ) {
+    PostScoreRequest req = reportRequests.get(key)
+        .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown or expired report key"));
+    return scoringService.score(req, ScoreField.parse(null, fields));
+  }
 
-    return new GetQuestionsResponse(selection.sessionSeed(), choices, questions);
+  /** Score/grade/warning level with one answer changed; the report parts are not regenerated. */
+  @PostMapping("/score/what-if")
+  public ScoreVariantDto whatIf(@Valid @RequestBody WhatIfRequest req) {
+    return scoringService.whatIf(req.base(), req.questionId(), req.value());
   }
 
-  @PostMapping("/score")
-  public PostScoreResponse score(@Valid @RequestBody PostScoreRequest req) {
-    return scoringService.score(req);
+  /** Score/grade/warning level for every answer set to every value (6 x 5 variants). */
+  @PostMapping("/score/sensitivity")
+  public SensitivityResponse sensitivity(@Valid @RequestBody PostScoreRequest req) {
+    return scoringService.sensitivity(req);
+  }
+
+  /**
+   * Server-sent events for one score: `summary` (actionConclusion/score/grade/tone), then one `section` per longform
+   * section as soon as it is rendered, then `done`. Sections joined with a blank line equal /score's longformText.
+   */
+  @PostMapping(value = "/score/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public ResponseEntity<StreamingResponseBody> scoreStream(@Valid @RequestBody PostScoreRequest req) {
+    ScoringService.ReportStream report = scoringService.reportStream(req);
+    StreamingResponseBody stream = out -> {
+      writeEvent(out, "summary", report.summary());
+      int[] count = {0};
+      try {
+        report.sections((index, section, markdown) -> {
+          try {
+            writeEvent(out, "section", new LongformSectionEvent(index, section.name(), markdown));
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+          count[0]++;
+        });
+      } catch (UncheckedIOException e) {
+        throw e.getCause();
+      }
+      writeEvent(out, "done", Map.of("sections", count[0]));
+    };
+    return ResponseEntity.ok().contentType(MediaType.TEXT_EVENT_STREAM).body(stream);
+  }
+
+  /**
+   * Scores a JSON array of score requests; the response is NDJSON, one {index,status,result|error} per item in input order.
+   */
+  @PostMapping(
+      value = "/score/batch",
+      consumes = MediaType.APPLICATION_JSON_VALUE,
+      produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> scoreBatch(@RequestBody JsonNode body) {
+    if (body == null || !body.isArray()) {
+      throw new IllegalArgumentException("Batch body must be a JSON array of score requests");
+    }
+    batchScoringService.checkSize(body.size());
+
+    List<BatchInput> inputs = new ArrayList<>(body.size());
+    for (JsonNode item : body) inputs.add(toBatchInput(item));
+    return streamBatch(inputs);
+  }
+
+  /**
+   * Same as {@link #scoreBatch(JsonNode)} with one score request per line (blank lines are skipped).
+   * - The body is read line by line while items are scored, never buffered whole
+   * - Past max-items the rest of the body is not read; one last error item reports the cut
+   */
+  @PostMapping(
+      value = "/score/batch",
+      consumes = MediaType.APPLICATION_NDJSON_VALUE,
+      produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> scoreBatchNdjson(InputStream body) {
+    StreamingResponseBody stream = out -> {
+      BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+      NdjsonInputs inputs = new NdjsonInputs(reader, batchScoringService.maxItems());
+      try {
+        batchScoringService.score(inputs, item -> writeLine(out, item));
+      } catch (UncheckedIOException e) {
+        throw e.getCause();
+      }
+    };
+    return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(stream);
+  }
+
+  private BatchInput toBatchInput(JsonNode item) {
+    if (item == null || !item.isObject()) return BatchInput.malformed("Item must be a JSON object");
+    try {
+      return BatchInput.of(objectMapper.treeToValue(item, PostScoreRequest.class));
+    } catch (JsonProcessingException e) {
+      return BatchInput.malformed("Item is not a valid score request");
+    }
+  }
+
+  private ResponseEntity<StreamingResponseBody> streamBatch(List<BatchInput> inputs) {
+    StreamingResponseBody stream = out -> batchScoringService.score(inputs, item -> writeLine(out, item));
+    return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(stream);
+  }
+
+  private void writeLine(OutputStream out, Object item) throws IOException {
+    out.write(objectMapper.writeValueAsBytes(item));
+    out.write('\n');
+    out.flush();
+  }
+
+  /** Non-blank NDJSON lines as batch inputs, read on demand; yields an error input instead of line maxItems + 1. */
+  private final class NdjsonInputs implements Iterator<BatchInput> {
+    private final BufferedReader reader;
+    private final int maxItems;
+    private int count;
+    private String line;
+    private boolean done;
+
+    NdjsonInputs(BufferedReader reader, int maxItems) {
+      this.reader = reader;
+      this.maxItems = maxItems;
+    }
+
+    @Override
+    public boolean hasNext() {
+      if (done) return false;
+      if (line != null) return true;
+      try {
+        String next;
+        do {
+          next = reader.readLine();
+        } while (next != null && next.isBlank());
+        line = next;
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      if (line == null) done = true;
+      return line != null;
+    }
+
+    @Override
+    public BatchInput next() {
+      if (!hasNext()) throw new NoSuchElementException();
+      String current = line;
+      line = null;
+      if (++count > maxItems) {
+        done = true;
+        return BatchInput.malformed("Batch has more than " + maxItems + " items; the rest was not read");
+      }
+      try {
+        return toBatchInput(objectMapper.readTree(current));
+      } catch (JsonProcessingException e) {
+        return BatchInput.malformed("Malformed JSON line");
+      }
+    }
+  }
+
+  // Jackson output has no raw newlines, so every payload fits one data: line
+  private void writeEvent(OutputStream out, String event, Object payload) throws IOException {
+    out.write(("event: " + event + "\ndata: ").getBytes(StandardCharsets.UTF_8));
+    out.write(objectMapper.writeValueAsBytes(payload));
+    out.write('\n');
+    out.write('\n');
+    out.flush();
   }
 
   @GetMapping("/health")
@@ -6,6 +6,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -28,6 +29,11 @@ public class ApiExceptionHandler {
     return error(HttpStatus.BAD_REQUEST, "Validation failed");
   }
 
+  @ExceptionHandler(ResponseStatusException.class)
+  public ResponseEntity<Map<String, Object>> handleStatus(ResponseStatusException e) {
+    return error(HttpStatus.valueOf(e.getStatusCode().value()), e.getReason());
+  }
+
   @ExceptionHandler(Exception.class)
   public ResponseEntity<Map<String, Object>> handleAny(Exception e) {
     return error(HttpStatus.INTERNAL_SERVER_ERROR, "Unexpected error");
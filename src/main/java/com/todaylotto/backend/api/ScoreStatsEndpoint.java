@@ -0,0 +1,24 @@
+package com.todaylotto.backend.api;
+
+import com.todaylotto.backend.service.ScoreStats;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/** GET /actuator/scorestats: the retained score statistics windows, newest first. */
+@Component
+@Endpoint(id = "scorestats")
+public class ScoreStatsEndpoint {
+  private final ScoreStats scoreStats;
+
+  public ScoreStatsEndpoint(ScoreStats scoreStats) {
+    this.scoreStats = scoreStats;
+  }
+
+  @ReadOperation
+  public List<ScoreStats.Window> windows() {
+    return scoreStats.windows();
+  }
+}
@@ -0,0 +1,20 @@
+package com.todaylotto.backend.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/** One NDJSON line of a batch response; exactly one of result/error is set. */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BatchScoreItem(
+    int index,
+    String status,
+    PostScoreResponse result,
+    String error
+) {
+  public static BatchScoreItem ok(int index, PostScoreResponse result) {
+    return new BatchScoreItem(index, "ok", result, null);
+  }
+
+  public static BatchScoreItem error(int index, String error) {
+    return new BatchScoreItem(index, "error", null, error);
+  }
+}
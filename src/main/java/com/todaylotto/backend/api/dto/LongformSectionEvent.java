@@ -0,0 +1,8 @@
+package com.todaylotto.backend.api.dto;
+
+/** One `section` event of the streamed report; joining every markdown with a blank line gives longformText. */
+public record LongformSectionEvent(
+    int index,
+    String section,
+    String markdown
+) {}
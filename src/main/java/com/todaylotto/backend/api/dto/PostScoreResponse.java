@@ -1,8 +1,15 @@
 package com.todaylotto.backend.api.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.util.List;
 import java.util.Map;
 
+/**
+ * Parts left out by a mode=lite or fields= request are null and omitted from the JSON.
+ * reportKey is set only on such partial responses; GET /api/score/report takes it to fetch the rest.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public record PostScoreResponse(
     String actionConclusion,
     int score,
@@ -15,5 +22,29 @@ public record PostScoreResponse(
     List<ResultCardDto> cards,
     String longformText,
     BreakdownDto breakdown,
-    String shareText
-) {}
+    String shareText,
+    String reportKey
+) {
+  public PostScoreResponse(
+      String actionConclusion,
+      int score,
+      String grade,
+      String tone,
+      Map<String, Integer> stateVector,
+      List<String> tags,
+      SignalsDto signals,
+      List<StrategyCardDto> strategyCards,
+      List<ResultCardDto> cards,
+      String longformText,
+      BreakdownDto breakdown,
+      String shareText
+  ) {
+    this(actionConclusion, score, grade, tone, stateVector, tags, signals, strategyCards, cards, longformText,
+        breakdown, shareText, null);
+  }
+
+  public PostScoreResponse withReportKey(String reportKey) {
+    return new PostScoreResponse(actionConclusion, score, grade, tone, stateVector, tags, signals, strategyCards,
+        cards, longformText, breakdown, shareText, reportKey);
+  }
+}
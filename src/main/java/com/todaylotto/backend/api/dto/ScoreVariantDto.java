@@ -0,0 +1,10 @@
+package com.todaylotto.backend.api.dto;
+
+/** Score of a request with one answer set to value; warningLevel is NONE, NORMAL or STRONG. */
+public record ScoreVariantDto(
+    Long questionId,
+    Integer value,
+    int score,
+    String grade,
+    String warningLevel
+) {}
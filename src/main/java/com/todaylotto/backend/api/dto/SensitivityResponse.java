@@ -0,0 +1,11 @@
+package com.todaylotto.backend.api.dto;
+
+import java.util.List;
+
+/** Score of the request as posted plus one variant per (answer, value): answers in request order, values 1..5. */
+public record SensitivityResponse(
+    int score,
+    String grade,
+    String warningLevel,
+    List<ScoreVariantDto> variants
+) {}
@@ -0,0 +1,13 @@
+package com.todaylotto.backend.api.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+/** A scored request plus one answer to change; questionId must be one of base's answers. */
+public record WhatIfRequest(
+    @NotNull @Valid PostScoreRequest base,
+    @NotNull Long questionId,
+    @NotNull @Min(1) @Max(5) Integer value
+) {}
@@ -0,0 +1,91 @@
+package com.todaylotto.backend.content;
+
+import com.todaylotto.backend.content.ContentTables.PoolRow;
+import com.todaylotto.backend.domain.Tone;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Score-bucketed candidate lists for one score-ranged pool.
+ * - Slot (key, tone, score) holds every row of that key whose range covers the score and whose tone is the tone or ANY
+ * - Lists are presorted by priority desc, id asc: the order the services used to produce with a stable sort per call
+ * - Equal lists are stored once, so runs of scores with the same candidates share one list
+ */
+final class CandidateIndex<K extends Enum<K>, R extends PoolRow> {
+  static final int MIN_SCORE = 0;
+  static final int MAX_SCORE = 100;
+
+  private static final int SCORES = MAX_SCORE - MIN_SCORE + 1;
+  private static final int TONES = Tone.values().length;
+
+  // rough HotSpot sizes with compressed oops
+  private static final int ARRAY_HEADER_BYTES = 16;
+  private static final int REF_BYTES = 4;
+  private static final int LIST_OBJECT_BYTES = 16;
+
+  private final List<List<PoolEntry<R>>> slots;
+  private final int distinctLists;
+  private final long estimatedBytes;
+
+  private CandidateIndex(List<List<PoolEntry<R>>> slots, int distinctLists, long estimatedBytes) {
+    this.slots = slots;
+    this.distinctLists = distinctLists;
+    this.estimatedBytes = estimatedBytes;
+  }
+
+  /** entries must be in id order. */
+  static <K extends Enum<K>, R extends PoolRow> CandidateIndex<K, R> build(
+      Class<K> keyType, List<PoolEntry<R>> entries, Function<R, K> keyFn) {
+    K[] keys = keyType.getEnumConstants();
+    List<List<PoolEntry<R>>> slots = new ArrayList<>(keys.length * TONES * SCORES);
+    Map<List<PoolEntry<R>>, List<PoolEntry<R>>> interned = new HashMap<>();
+    long bytes = ARRAY_HEADER_BYTES + (long) REF_BYTES * keys.length * TONES * SCORES;
+
+    for (K key : keys) {
+      List<PoolEntry<R>> ofKey = new ArrayList<>();
+      for (PoolEntry<R> e : entries) if (keyFn.apply(e.row()) == key) ofKey.add(e);
+      ofKey.sort(Comparator.comparingInt((PoolEntry<R> e) -> e.row().priority()).reversed());
+
+      for (Tone tone : Tone.values()) {
+        for (int score = MIN_SCORE; score <= MAX_SCORE; score++) {
+          List<PoolEntry<R>> matching = new ArrayList<>();
+          for (PoolEntry<R> e : ofKey) {
+            R row = e.row();
+            if (row.minScore() > score || row.maxScore() < score) continue;
+            if (row.tone() != tone && row.tone() != Tone.ANY) continue;
+            matching.add(e);
+          }
+          List<PoolEntry<R>> shared = interned.get(matching);
+          if (shared == null) {
+            shared = List.copyOf(matching);
+            interned.put(shared, shared);
+            bytes += LIST_OBJECT_BYTES + align(ARRAY_HEADER_BYTES + (long) REF_BYTES * shared.size());
+          }
+          slots.add(shared);
+        }
+      }
+    }
+    return new CandidateIndex<>(List.copyOf(slots), interned.size(), bytes);
+  }
+
+  List<PoolEntry<R>> candidates(K key, Tone tone, int score) {
+    if (score < MIN_SCORE || score > MAX_SCORE) {
+      throw new IllegalArgumentException("score must be within " + MIN_SCORE + ".." + MAX_SCORE + ": " + score);
+    }
+    return slots.get((key.ordinal() * TONES + tone.ordinal()) * SCORES + (score - MIN_SCORE));
+  }
+
+  int distinctLists() {
+    return distinctLists;
+  }
+
+  /** Bytes held by the index itself; the entries are shared with the snapshot and not counted. */
+  long estimatedBytes() {
+    return estimatedBytes;
+  }
+
+  private static long align(long bytes) {
+    return (bytes + 7) & ~7L;
+  }
+}
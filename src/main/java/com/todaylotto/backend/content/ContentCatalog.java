@@ -0,0 +1,70 @@
+package com.todaylotto.backend.content;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Holds the current {@link ContentSnapshot}.
+ * - Content only changes with a migration, so pools are read once and served from memory
+ * - reload() builds a complete new snapshot and swaps it in atomically; readers never see a partial state
+ * - Each load logs its wall time and the bytes the loading thread allocated, to compare content sources
+ */
+@Component
+public class ContentCatalog {
+  private static final Logger log = LoggerFactory.getLogger(ContentCatalog.class);
+
+  private final ContentSource source;
+  private final AtomicReference<ContentSnapshot> current = new AtomicReference<>();
+
+  public ContentCatalog(ContentSource source) {
+    this.source = source;
+  }
+
+  @PostConstruct
+  public void init() {
+    reload();
+  }
+
+  public ContentSnapshot current() {
+    ContentSnapshot snapshot = current.get();
+    if (snapshot == null) throw new IllegalStateException("Content catalog is not loaded");
+    return snapshot;
+  }
+
+  public ContentSnapshot reload() {
+    long allocatedBefore = allocatedBytes();
+    long start = System.nanoTime();
+    ContentTables tables = source.load();
+    long loadNanos = System.nanoTime() - start;
+    long loadAllocated = allocatedBytes() - allocatedBefore;
+
+    ContentSnapshot next = ContentSnapshot.of(tables);
+    ContentSnapshot prev = current.getAndSet(next);
+    log.info("Content tables read by {} in {} ms, ~{} KiB allocated",
+        ClassUtils.getUserClass(source).getSimpleName(), loadNanos / 1_000_000,
+        allocatedBefore < 0 ? "n/a" : loadAllocated / 1024);
+    log.info("Content snapshot loaded: version={} (previous={}), candidate index {} lists / ~{} KiB",
+        Long.toHexString(next.version()), prev == null ? "none" : Long.toHexString(prev.version()),
+        next.candidateIndexLists(), next.candidateIndexBytes() / 1024);
+    if (!next.unresolvedSlots().isEmpty()) {
+      log.warn("Template slots without pool rows (rendered empty): {}", next.unresolvedSlots());
+    }
+    return next;
+  }
+
+  // bytes allocated so far by the calling thread, or -1 when the JVM does not track it
+  private static long allocatedBytes() {
+    ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    if (threads instanceof com.sun.management.ThreadMXBean hotspot && hotspot.isThreadAllocatedMemoryEnabled()) {
+      return hotspot.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+    return -1;
+  }
+}
@@ -0,0 +1,271 @@
+package com.todaylotto.backend.content;
+
+import com.todaylotto.backend.content.ContentTables.ChoiceRow;
+import com.todaylotto.backend.content.ContentTables.KeywordRow;
+import com.todaylotto.backend.content.ContentTables.KeywordRuleRow;
+import com.todaylotto.backend.content.ContentTables.LongformRow;
+import com.todaylotto.backend.content.ContentTables.MessageRow;
+import com.todaylotto.backend.content.ContentTables.PhraseRow;
+import com.todaylotto.backend.content.ContentTables.PoolRow;
+import com.todaylotto.backend.content.ContentTables.QuestionRow;
+import com.todaylotto.backend.content.ContentTables.RuleMapRow;
+import com.todaylotto.backend.content.ContentTables.StrategyCardRow;
+import com.todaylotto.backend.content.ContentTables.StrategySlotRow;
+import com.todaylotto.backend.content.ContentTables.StyleRow;
+import com.todaylotto.backend.domain.LongformSection;
+import com.todaylotto.backend.domain.MessageCategory;
+import com.todaylotto.backend.domain.ScoreBand;
+import com.todaylotto.backend.domain.StrategyCardType;
+import com.todaylotto.backend.domain.SystemTags;
+import com.todaylotto.backend.domain.Tone;
+import com.todaylotto.backend.util.CompiledTemplate;
+import com.todaylotto.backend.util.ConditionCompiler;
+import com.todaylotto.backend.util.CumulativeWeights;
+import com.todaylotto.backend.util.KeywordAutomaton;
+import com.todaylotto.backend.util.TagDictionary;
+import com.todaylotto.backend.util.TagUtils;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Immutable, indexed view of all content pools.
+ * - Built once per load and never mutated afterwards
+ * - version is a fingerprint of the rows, so equal content yields an equal version on every node
+ */
+public final class ContentSnapshot {
+  private final long version;
+  private final TagDictionary tags;
+  private final Map<Long, QuestionEntry> questions;
+  private final QuestionBank questionBank;
+  private final List<ChoiceRow> choices;
+  private final CandidateIndex<MessageCategory, MessageRow> messages;
+  private final CandidateIndex<LongformSection, LongformRow> longformBlocks;
+  private final CandidateIndex<StrategyCardType, StrategyCardRow> strategyCards;
+  private final SlotPools<PhraseRow> phrases;
+  private final SlotPools<StrategySlotRow> strategySlots;
+  private final Map<Tone, StyleRow> styleProfiles;
+  private final Map<ScoreBand, List<RuleMapRow>> ruleMaps;
+  private final List<KeywordEntry> keywords;
+  private final KeywordAutomaton keywordAutomaton;
+  private final Set<String> unresolvedSlots;
+
+  private ContentSnapshot(ContentTables tables) {
+    this.version = fingerprint(tables);
+    this.tags = tagDictionary(tables);
+
+    Map<Long, QuestionEntry> questions = new HashMap<>();
+    for (QuestionRow q : tables.questions()) questions.put(q.id(), QuestionEntry.compile(q, tags));
+    this.questions = Collections.unmodifiableMap(questions);
+    this.questionBank = QuestionBank.build(tables.questions());
+    this.choices = tables.choices().stream().sorted(Comparator.comparingInt(ChoiceRow::value)).toList();
+
+    this.phrases = SlotPools.build(
+        tables.phrases(), PhraseRow::slotKey, PhraseRow::tone, p -> Math.max(1, p.weight()));
+    this.strategySlots = SlotPools.build(
+        tables.strategySlots(), StrategySlotRow::slotKey, StrategySlotRow::tone, s -> Math.max(1, s.weight()));
+
+    this.messages = CandidateIndex.build(
+        MessageCategory.class,
+        compile("message_pool", tables.messages(), tags, m -> CompiledTemplate.EMPTY),
+        MessageRow::category);
+    List<PoolEntry<LongformRow>> blockEntries = compile("longform_block", tables.longformBlocks(), tags,
+        b -> CompiledTemplate.compile(phrases::id, b.textTemplate()));
+    List<PoolEntry<StrategyCardRow>> cardEntries = compile("strategy_card_pool", tables.strategyCards(), tags,
+        c -> CompiledTemplate.compile(strategySlots::id, c.titleTemplate(), c.bodyTemplate(), c.footerTemplate()));
+    this.longformBlocks = CandidateIndex.build(LongformSection.class, blockEntries, LongformRow::section);
+    this.strategyCards = CandidateIndex.build(StrategyCardType.class, cardEntries, StrategyCardRow::cardType);
+    this.unresolvedSlots = unresolvedSlots(blockEntries, cardEntries);
+    this.ruleMaps = groupByEnum(tables.ruleMaps(), ScoreBand.class, RuleMapRow::scoreBand);
+
+    EnumMap<Tone, StyleRow> styles = new EnumMap<>(Tone.class);
+    for (StyleRow s : tables.styleProfiles()) styles.putIfAbsent(s.tone(), s);
+    this.styleProfiles = Collections.unmodifiableMap(styles);
+
+    this.keywords = keywordEntries(tables.keywords(), tables.keywordRules(), tags);
+    this.keywordAutomaton = KeywordAutomaton.build(
+        tables.keywords().stream().map(KeywordRow::normalized).toList());
+  }
+
+  public static ContentSnapshot of(ContentTables tables) {
+    return new ContentSnapshot(tables);
+  }
+
+  public long version() {
+    return version;
+  }
+
+  public TagDictionary tags() {
+    return tags;
+  }
+
+  /** Question with its per-answer deltas and tag ids. */
+  public Optional<QuestionEntry> question(long id) {
+    return Optional.ofNullable(questions.get(id));
+  }
+
+  public QuestionBank questionBank() {
+    return questionBank;
+  }
+
+  /** Answer choices ordered by value. */
+  public List<ChoiceRow> choices() {
+    return choices;
+  }
+
+  /** Messages whose score range and tone fit, highest priority first (ties in id order). */
+  public List<PoolEntry<MessageRow>> messages(MessageCategory category, Tone tone, int score) {
+    return messages.candidates(category, tone, score);
+  }
+
+  /** Longform blocks whose score range and tone fit, highest priority first (ties in id order). */
+  public List<PoolEntry<LongformRow>> longformBlocks(LongformSection section, Tone tone, int score) {
+    return longformBlocks.candidates(section, tone, score);
+  }
+
+  /** Strategy cards whose score range and tone fit, highest priority first (ties in id order). */
+  public List<PoolEntry<StrategyCardRow>> strategyCards(StrategyCardType type, Tone tone, int score) {
+    return strategyCards.candidates(type, tone, score);
+  }
+
+  /** Estimated heap held by the score-bucketed candidate indexes, excluding the rows themselves. */
+  public long candidateIndexBytes() {
+    return messages.estimatedBytes() + longformBlocks.estimatedBytes() + strategyCards.estimatedBytes();
+  }
+
+  public int candidateIndexLists() {
+    return messages.distinctLists() + longformBlocks.distinctLists() + strategyCards.distinctLists();
+  }
+
+  /** phrase_pool by slot; longform templates reference these slot ids. */
+  public SlotPools<PhraseRow> phrases() {
+    return phrases;
+  }
+
+  /** strategy_slot_pool by slot; strategy card templates reference these slot ids. */
+  public SlotPools<StrategySlotRow> strategySlots() {
+    return strategySlots;
+  }
+
+  /** "table:SLOT" for every template slot with no rows in its slot pool; those render as "". */
+  public Set<String> unresolvedSlots() {
+    return unresolvedSlots;
+  }
+
+  public Optional<StyleRow> styleProfile(Tone tone) {
+    return Optional.ofNullable(styleProfiles.get(tone));
+  }
+
+  public List<RuleMapRow> ruleMaps(ScoreBand band) {
+    return ruleMaps.get(band);
+  }
+
+  /** Dictionary entries in id order; index i is pattern i of {@link #keywordAutomaton()}. */
+  public List<KeywordEntry> keywords() {
+    return keywords;
+  }
+
+  public KeywordAutomaton keywordAutomaton() {
+    return keywordAutomaton;
+  }
+
+  private static List<KeywordEntry> keywordEntries(List<KeywordRow> keywords, List<KeywordRuleRow> rules, TagDictionary tags) {
+    Map<Long, List<KeywordRuleRow>> byKeyword = new HashMap<>();
+    for (KeywordRuleRow r : rules) byKeyword.computeIfAbsent(r.keywordId(), k -> new ArrayList<>()).add(r);
+
+    List<KeywordEntry> out = new ArrayList<>(keywords.size());
+    for (KeywordRow k : keywords) {
+      List<KeywordRuleRow> own = List.copyOf(byKeyword.getOrDefault(k.id(), List.of()));
+      int[] weights = new int[own.size()];
+      int[] ruleTagIds = new int[own.size()];
+      for (int i = 0; i < weights.length; i++) {
+        weights[i] = Math.max(1, own.get(i).weight());
+        ruleTagIds[i] = tags.id(own.get(i).tag());
+      }
+      out.add(new KeywordEntry(k, tags.id(k.tag()), own, CumulativeWeights.of(weights), ruleTagIds));
+    }
+    return List.copyOf(out);
+  }
+
+  // every tag a request can carry: question/keyword/rule tags, pool tag filters and the scoring code's own tags
+  private static TagDictionary tagDictionary(ContentTables tables) {
+    List<String> names = new ArrayList<>(SystemTags.ALL);
+    for (QuestionRow q : tables.questions()) {
+      names.add(q.tagOnHigh());
+      names.add(q.tagOnLow());
+    }
+    for (KeywordRow k : tables.keywords()) names.add(k.tag());
+    for (KeywordRuleRow r : tables.keywordRules()) names.add(r.tag());
+    for (List<? extends PoolRow> pool : List.of(tables.messages(), tables.longformBlocks(), tables.strategyCards())) {
+      for (PoolRow row : pool) {
+        names.addAll(TagUtils.parseCsv(row.requiredTags()));
+        names.addAll(TagUtils.parseCsv(row.blockedTags()));
+      }
+    }
+    return TagDictionary.of(names);
+  }
+
+  // from the templates the candidate indexes hold, so nothing is compiled twice
+  private static Set<String> unresolvedSlots(
+      List<PoolEntry<LongformRow>> blocks, List<PoolEntry<StrategyCardRow>> cards) {
+    Set<String> out = new TreeSet<>();
+    for (PoolEntry<LongformRow> b : blocks) addUnresolved(out, "longform_block", b.template());
+    for (PoolEntry<StrategyCardRow> c : cards) addUnresolved(out, "strategy_card_pool", c.template());
+    return Collections.unmodifiableSet(out);
+  }
+
+  private static void addUnresolved(Set<String> out, String table, CompiledTemplate template) {
+    for (int i = 0; i < template.slotCount(); i++) {
+      if (template.slotRef(i) < 0) out.add(table + ":" + template.slotKey(i));
+    }
+  }
+
+  private static <R extends PoolRow> List<PoolEntry<R>> compile(
+      String table, List<R> rows, TagDictionary tags, Function<R, CompiledTemplate> templateFn) {
+    List<PoolEntry<R>> out = new ArrayList<>(rows.size());
+    for (R row : rows) {
+      try {
+        out.add(new PoolEntry<>(
+            row,
+            ConditionCompiler.compile(row.conditionsJson(), tags),
+            tags.mask(row.requiredTags()),
+            tags.mask(row.blockedTags()),
+            templateFn.apply(row)
+        ));
+      } catch (IllegalArgumentException e) {
+        throw new IllegalStateException("Invalid conditions_json in " + table + " id=" + row.id() + ": " + e.getMessage(), e);
+      }
+    }
+    return out;
+  }
+
+  private static <K extends Enum<K>, T> Map<K, List<T>> groupByEnum(List<T> rows, Class<K> keyType, Function<T, K> keyFn) {
+    EnumMap<K, List<T>> out = new EnumMap<>(keyType);
+    for (K k : keyType.getEnumConstants()) {
+      List<T> group = new ArrayList<>();
+      for (T row : rows) if (keyFn.apply(row) == k) group.add(row);
+      out.put(k, List.copyOf(group));
+    }
+    return Collections.unmodifiableMap(out);
+  }
+
+  // FNV-1a over the row text; enum hashCodes are identity based, so record hashCode is not stable across JVMs
+  private static long fingerprint(ContentTables tables) {
+    long h = 0xcbf29ce484222325L;
+    for (List<?> table : List.of(
+        tables.questions(), tables.messages(), tables.longformBlocks(), tables.strategyCards(), tables.phrases(),
+        tables.strategySlots(), tables.styleProfiles(), tables.ruleMaps(), tables.keywords(),
+        tables.keywordRules(), tables.choices())) {
+      for (Object row : table) {
+        String s = row.toString();
+        for (int i = 0; i < s.length(); i++) {
+          h ^= s.charAt(i);
+          h *= 0x100000001b3L;
+        }
+      }
+      h ^= '|';
+      h *= 0x100000001b3L;
+    }
+    return h;
+  }
+}
@@ -0,0 +1,48 @@
+package com.todaylotto.backend.content;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+
+/**
+ * One-shot export of the configured content source to a {@link ContentSnapshotFile}, for the edge profile.
+ * - Runs only when app.content.export-path is set, e.g. --app.content.export-path=content.snapshot
+ * - Exits the application once the file is written
+ */
+@Component
+@ConditionalOnProperty(name = "app.content.export-path")
+public class ContentSnapshotExporter implements ApplicationRunner {
+  private static final Logger log = LoggerFactory.getLogger(ContentSnapshotExporter.class);
+
+  private final ContentSource source;
+  private final ConfigurableApplicationContext context;
+  private final Path path;
+
+  public ContentSnapshotExporter(
+      ContentSource source,
+      ConfigurableApplicationContext context,
+      @Value("${app.content.export-path}") String path
+  ) {
+    this.source = source;
+    this.context = context;
+    this.path = Path.of(path);
+  }
+
+  @Override
+  public void run(ApplicationArguments args) {
+    ContentTables tables = source.load();
+    ContentSnapshotFile.write(tables, path);
+    log.info("Content snapshot written to {}: version={}, {} questions, {} messages, {} longform blocks",
+        path.toAbsolutePath(), Long.toHexString(ContentSnapshot.of(tables).version()), tables.questions().size(),
+        tables.messages().size(), tables.longformBlocks().size());
+    System.exit(SpringApplication.exit(context, () -> 0));
+  }
+}
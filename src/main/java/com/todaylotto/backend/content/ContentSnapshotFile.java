@@ -0,0 +1,260 @@
+package com.todaylotto.backend.content;
+
+import com.todaylotto.backend.content.ContentTables.ChoiceRow;
+import com.todaylotto.backend.content.ContentTables.KeywordRow;
+import com.todaylotto.backend.content.ContentTables.KeywordRuleRow;
+import com.todaylotto.backend.content.ContentTables.LongformRow;
+import com.todaylotto.backend.content.ContentTables.MessageRow;
+import com.todaylotto.backend.content.ContentTables.PhraseRow;
+import com.todaylotto.backend.content.ContentTables.QuestionRow;
+import com.todaylotto.backend.content.ContentTables.RuleMapRow;
+import com.todaylotto.backend.content.ContentTables.StrategyCardRow;
+import com.todaylotto.backend.content.ContentTables.StrategySlotRow;
+import com.todaylotto.backend.content.ContentTables.StyleRow;
+import com.todaylotto.backend.domain.Axis;
+import com.todaylotto.backend.domain.LongformSection;
+import com.todaylotto.backend.domain.MessageCategory;
+import com.todaylotto.backend.domain.QuestionBucket;
+import com.todaylotto.backend.domain.ScoreBand;
+import com.todaylotto.backend.domain.StrategyCardType;
+import com.todaylotto.backend.domain.Tone;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Binary file holding a full {@link ContentTables}, for nodes that run without a database.
+ * - Layout: magic "TLCS", format version, the 11 tables in ContentTables order (row count, then rows), CRC32 trailer
+ * - Strings are length-prefixed UTF-8 (-1 = null); enums are stored by name, so reordering constants is safe
+ * - write() goes through a temp file and an atomic move; read() memory-maps the file and checks the CRC first
+ * - Bump FORMAT_VERSION whenever a row record changes shape
+ */
+public final class ContentSnapshotFile {
+  private static final int MAGIC = 0x544C4353; // "TLCS"
+  private static final int FORMAT_VERSION = 1;
+  private static final int TABLES = 11;
+  private static final int TRAILER_BYTES = Long.BYTES;
+
+  private ContentSnapshotFile() {}
+
+  public static void write(ContentTables tables, Path path) {
+    Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+    try {
+      CRC32 crc = new CRC32();
+      try (OutputStream file = Files.newOutputStream(tmp)) {
+        DataOutputStream out = new DataOutputStream(new CheckedOutputStream(new BufferedOutputStream(file), crc));
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        out.writeInt(TABLES);
+        writeTables(new Out(out), tables);
+        out.flush();
+        // trailer stays outside the checksum
+        DataOutputStream trailer = new DataOutputStream(file);
+        trailer.writeLong(crc.getValue());
+        trailer.flush();
+      }
+      Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not write content snapshot " + path, e);
+    }
+  }
+
+  public static ContentTables read(Path path) {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      long size = channel.size();
+      if (size < 3L * Integer.BYTES + TRAILER_BYTES || size > Integer.MAX_VALUE) {
+        throw new IllegalStateException("Content snapshot " + path + " has an invalid size: " + size);
+      }
+      MappedByteBuffer buf = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+      int bodyEnd = (int) size - TRAILER_BYTES;
+
+      CRC32 crc = new CRC32();
+      crc.update(buf.duplicate().limit(bodyEnd));
+      if (crc.getValue() != buf.getLong(bodyEnd)) {
+        throw new IllegalStateException("Content snapshot " + path + " is corrupt (checksum mismatch)");
+      }
+
+      ByteBuffer body = buf.duplicate().limit(bodyEnd);
+      if (body.getInt() != MAGIC) throw new IllegalStateException(path + " is not a content snapshot");
+      int format = body.getInt();
+      if (format != FORMAT_VERSION) {
+        throw new IllegalStateException("Content snapshot " + path + " has format " + format
+            + ", expected " + FORMAT_VERSION + "; export it again with this build");
+      }
+      if (body.getInt() != TABLES) throw new IllegalStateException("Content snapshot " + path + " table count");
+      ContentTables tables = readTables(new In(body));
+      if (body.hasRemaining()) throw new IllegalStateException("Content snapshot " + path + " has trailing bytes");
+      return tables;
+    } catch (BufferUnderflowException | IllegalArgumentException e) {
+      throw new IllegalStateException("Content snapshot " + path + " is malformed", e);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not read content snapshot " + path, e);
+    }
+  }
+
+  private static void writeTables(Out out, ContentTables t) throws IOException {
+    out.rows(t.questions(), q -> {
+      out.lng(q.id()).name(q.bucket()).str(q.text()).name(q.primaryAxis()).name(q.secondaryAxis())
+          .str(q.strength().toPlainString()).num(q.polarity()).str(q.tagOnHigh()).str(q.tagOnLow()).num(q.weight());
+    });
+    out.rows(t.messages(), m -> {
+      out.lng(m.id()).name(m.category()).name(m.tone()).num(m.minScore()).num(m.maxScore())
+          .str(m.requiredTags()).str(m.blockedTags()).str(m.conditionsJson()).str(m.text())
+          .num(m.weight()).num(m.priority());
+    });
+    out.rows(t.longformBlocks(), b -> {
+      out.lng(b.id()).name(b.section()).name(b.tone()).num(b.minScore()).num(b.maxScore())
+          .str(b.requiredTags()).str(b.blockedTags()).str(b.conditionsJson()).str(b.textTemplate())
+          .num(b.weight()).num(b.priority());
+    });
+    out.rows(t.strategyCards(), c -> {
+      out.lng(c.id()).name(c.cardType()).name(c.tone()).num(c.minScore()).num(c.maxScore())
+          .str(c.requiredTags()).str(c.blockedTags()).str(c.conditionsJson()).str(c.titleTemplate())
+          .str(c.bodyTemplate()).str(c.footerTemplate()).num(c.weight()).num(c.priority()).str(c.tags());
+    });
+    out.rows(t.phrases(), p -> {
+      out.lng(p.id()).str(p.slotKey()).name(p.tone()).str(p.text()).num(p.weight());
+    });
+    out.rows(t.strategySlots(), s -> {
+      out.lng(s.id()).str(s.slotKey()).name(s.tone()).str(s.text()).num(s.weight());
+    });
+    out.rows(t.styleProfiles(), s -> {
+      out.lng(s.id()).name(s.tone()).num(s.emojiRate()).str(s.headingStyle());
+    });
+    out.rows(t.ruleMaps(), r -> {
+      out.lng(r.id()).name(r.scoreBand()).str(r.mandatoryTypes()).str(r.optionalTypes()).num(r.maxCards())
+          .str(r.dedupeKeyRules());
+    });
+    out.rows(t.keywords(), k -> {
+      out.lng(k.id()).str(k.keyword()).str(k.normalized()).str(k.tag());
+    });
+    out.rows(t.keywordRules(), r -> {
+      out.lng(r.id()).lng(r.keywordId()).num(r.scoreDelta()).str(r.tag()).str(r.description()).num(r.weight());
+    });
+    out.rows(t.choices(), c -> {
+      out.num(c.id()).num(c.value()).str(c.label());
+    });
+  }
+
+  private static ContentTables readTables(In in) {
+    return new ContentTables(
+        in.rows(() -> new QuestionRow(in.lng(), in.name(QuestionBucket.class), in.str(), in.name(Axis.class),
+            in.name(Axis.class), new BigDecimal(in.str()), in.num(), in.str(), in.str(), in.num())),
+        in.rows(() -> new MessageRow(in.lng(), in.name(MessageCategory.class), in.name(Tone.class), in.num(),
+            in.num(), in.str(), in.str(), in.str(), in.str(), in.num(), in.num())),
+        in.rows(() -> new LongformRow(in.lng(), in.name(LongformSection.class), in.name(Tone.class), in.num(),
+            in.num(), in.str(), in.str(), in.str(), in.str(), in.num(), in.num())),
+        in.rows(() -> new StrategyCardRow(in.lng(), in.name(StrategyCardType.class), in.name(Tone.class), in.num(),
+            in.num(), in.str(), in.str(), in.str(), in.str(), in.str(), in.str(), in.num(), in.num(), in.str())),
+        in.rows(() -> new PhraseRow(in.lng(), in.str(), in.name(Tone.class), in.str(), in.num())),
+        in.rows(() -> new StrategySlotRow(in.lng(), in.str(), in.name(Tone.class), in.str(), in.num())),
+        in.rows(() -> new StyleRow(in.lng(), in.name(Tone.class), in.num(), in.str())),
+        in.rows(() -> new RuleMapRow(in.lng(), in.name(ScoreBand.class), in.str(), in.str(), in.num(), in.str())),
+        in.rows(() -> new KeywordRow(in.lng(), in.str(), in.str(), in.str())),
+        in.rows(() -> new KeywordRuleRow(in.lng(), in.lng(), in.num(), in.str(), in.str(), in.num())),
+        in.rows(() -> new ChoiceRow(in.num(), in.num(), in.str()))
+    );
+  }
+
+  private interface RowWriter<T> {
+    void write(T row) throws IOException;
+  }
+
+  private interface RowReader<T> {
+    T read();
+  }
+
+  private static final class Out {
+    private final DataOutputStream out;
+
+    Out(DataOutputStream out) {
+      this.out = out;
+    }
+
+    <T> void rows(List<T> rows, RowWriter<T> writer) throws IOException {
+      out.writeInt(rows.size());
+      for (T row : rows) writer.write(row);
+    }
+
+    Out lng(long v) throws IOException {
+      out.writeLong(v);
+      return this;
+    }
+
+    Out num(int v) throws IOException {
+      out.writeInt(v);
+      return this;
+    }
+
+    Out name(Enum<?> v) throws IOException {
+      return str(v == null ? null : v.name());
+    }
+
+    Out str(String v) throws IOException {
+      if (v == null) {
+        out.writeInt(-1);
+        return this;
+      }
+      byte[] bytes = v.getBytes(StandardCharsets.UTF_8);
+      out.writeInt(bytes.length);
+      out.write(bytes);
+      return this;
+    }
+  }
+
+  // argument evaluation is left to right, so constructor calls read the fields in file order
+  private static final class In {
+    private final ByteBuffer buf;
+
+    In(ByteBuffer buf) {
+      this.buf = buf;
+    }
+
+    <T> List<T> rows(RowReader<T> reader) {
+      int n = buf.getInt();
+      if (n < 0) throw new IllegalArgumentException("negative row count");
+      List<T> rows = new ArrayList<>(n);
+      for (int i = 0; i < n; i++) rows.add(reader.read());
+      return rows;
+    }
+
+    long lng() {
+      return buf.getLong();
+    }
+
+    int num() {
+      return buf.getInt();
+    }
+
+    <E extends Enum<E>> E name(Class<E> type) {
+      String name = str();
+      return name == null ? null : Enum.valueOf(type, name);
+    }
+
+    String str() {
+      int len = buf.getInt();
+      if (len == -1) return null;
+      if (len < 0 || len > buf.remaining()) throw new IllegalArgumentException("bad string length " + len);
+      byte[] bytes = new byte[len];
+      buf.get(bytes);
+      return new String(bytes, StandardCharsets.UTF_8);
+    }
+  }
+}
@@ -0,0 +1,8 @@
+package com.todaylotto.backend.content;
+
+/**
+ * Supplies the full set of content tables for a new {@link ContentSnapshot}.
+ */
+public interface ContentSource {
+  ContentTables load();
+}
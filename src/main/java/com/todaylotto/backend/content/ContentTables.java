@@ -0,0 +1,123 @@
+package com.todaylotto.backend.content;
+
+import com.todaylotto.backend.domain.Axis;
+import com.todaylotto.backend.domain.LongformSection;
+import com.todaylotto.backend.domain.MessageCategory;
+import com.todaylotto.backend.domain.QuestionBucket;
+import com.todaylotto.backend.domain.ScoreBand;
+import com.todaylotto.backend.domain.StrategyCardType;
+import com.todaylotto.backend.domain.Tone;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Raw content rows as they come out of the pool tables, ordered by id.
+ * Detached from JPA so a snapshot can be built from any source.
+ */
+public record ContentTables(
+    List<QuestionRow> questions,
+    List<MessageRow> messages,
+    List<LongformRow> longformBlocks,
+    List<StrategyCardRow> strategyCards,
+    List<PhraseRow> phrases,
+    List<StrategySlotRow> strategySlots,
+    List<StyleRow> styleProfiles,
+    List<RuleMapRow> ruleMaps,
+    List<KeywordRow> keywords,
+    List<KeywordRuleRow> keywordRules,
+    List<ChoiceRow> choices
+) {
+
+  /** Columns shared by the score-ranged pools (message, longform, strategy card). */
+  public interface PoolRow {
+    long id();
+    Tone tone();
+    int minScore();
+    int maxScore();
+    String requiredTags();
+    String blockedTags();
+    String conditionsJson();
+    int weight();
+    int priority();
+  }
+
+  public record QuestionRow(
+      long id,
+      QuestionBucket bucket,
+      String text,
+      Axis primaryAxis,
+      Axis secondaryAxis,
+      BigDecimal strength,
+      int polarity,
+      String tagOnHigh,
+      String tagOnLow,
+      int weight
+  ) {}
+
+  public record MessageRow(
+      long id,
+      MessageCategory category,
+      Tone tone,
+      int minScore,
+      int maxScore,
+      String requiredTags,
+      String blockedTags,
+      String conditionsJson,
+      String text,
+      int weight,
+      int priority
+  ) implements PoolRow {}
+
+  public record LongformRow(
+      long id,
+      LongformSection section,
+      Tone tone,
+      int minScore,
+      int maxScore,
+      String requiredTags,
+      String blockedTags,
+      String conditionsJson,
+      String textTemplate,
+      int weight,
+      int priority
+  ) implements PoolRow {}
+
+  public record StrategyCardRow(
+      long id,
+      StrategyCardType cardType,
+      Tone tone,
+      int minScore,
+      int maxScore,
+      String requiredTags,
+      String blockedTags,
+      String conditionsJson,
+      String titleTemplate,
+      String bodyTemplate,
+      String footerTemplate,
+      int weight,
+      int priority,
+      String tags
+  ) implements PoolRow {}
+
+  public record PhraseRow(long id, String slotKey, Tone tone, String text, int weight) {}
+
+  public record StrategySlotRow(long id, String slotKey, Tone tone, String text, int weight) {}
+
+  public record StyleRow(long id, Tone tone, int emojiRate, String headingStyle) {}
+
+  public record RuleMapRow(
+      long id,
+      ScoreBand scoreBand,
+      String mandatoryTypes,
+      String optionalTypes,
+      int maxCards,
+      String dedupeKeyRules
+  ) {}
+
+  public record KeywordRow(long id, String keyword, String normalized, String tag) {}
+
+  public record KeywordRuleRow(long id, long keywordId, int scoreDelta, String tag, String description, int weight) {}
+
+  public record ChoiceRow(int id, int value, String label) {}
+}
@@ -0,0 +1,133 @@
+package com.todaylotto.backend.content;
+
+import com.todaylotto.backend.content.ContentTables.ChoiceRow;
+import com.todaylotto.backend.content.ContentTables.KeywordRow;
+import com.todaylotto.backend.content.ContentTables.KeywordRuleRow;
+import com.todaylotto.backend.content.ContentTables.LongformRow;
+import com.todaylotto.backend.content.ContentTables.MessageRow;
+import com.todaylotto.backend.content.ContentTables.PhraseRow;
+import com.todaylotto.backend.content.ContentTables.QuestionRow;
+import com.todaylotto.backend.content.ContentTables.RuleMapRow;
+import com.todaylotto.backend.content.ContentTables.StrategyCardRow;
+import com.todaylotto.backend.content.ContentTables.StrategySlotRow;
+import com.todaylotto.backend.content.ContentTables.StyleRow;
+import com.todaylotto.backend.domain.Axis;
+import com.todaylotto.backend.domain.LongformSection;
+import com.todaylotto.backend.domain.MessageCategory;
+import com.todaylotto.backend.domain.QuestionBucket;
+import com.todaylotto.backend.domain.ScoreBand;
+import com.todaylotto.backend.domain.StrategyCardType;
+import com.todaylotto.backend.domain.Tone;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Loads content with plain JDBC straight into the {@link ContentTables} records (default, app.content.source=jdbc).
+ * - No entities, proxies or persistence context: each row is read once and becomes one record
+ * - Reads through the pooled DataSource, so Hikari's timeouts and any pool customization apply
+ * - app.content.fetch-size defaults to Integer.MIN_VALUE, Connector/J's row streaming: rows arrive as they are
+ *   read instead of each whole result set being buffered; a positive size only applies with useCursorFetch=true
+ * - One read-only transaction, so all tables come from the same consistent snapshot; each query is read to the
+ *   end before the next one starts, as streaming allows one open result set per connection
+ * - Null fallbacks match {@link JpaContentSource}
+ */
+@Component
+@ConditionalOnProperty(name = "app.content.source", havingValue = "jdbc", matchIfMissing = true)
+public class JdbcContentSource implements ContentSource {
+  private static final String QUESTIONS =
+      "SELECT id, bucket, text, primary_axis, secondary_axis, strength, polarity, tag_on_high, tag_on_low, weight "
+          + "FROM question ORDER BY id";
+  private static final String MESSAGES =
+      "SELECT id, category, tone, min_score, max_score, required_tags, blocked_tags, conditions_json, text, "
+          + "weight, priority FROM message_pool ORDER BY id";
+  private static final String LONGFORM_BLOCKS =
+      "SELECT id, section, tone, min_score, max_score, required_tags, blocked_tags, conditions_json, "
+          + "text_template, weight, priority FROM longform_block ORDER BY id";
+  private static final String STRATEGY_CARDS =
+      "SELECT id, card_type, tone, min_score, max_score, required_tags, blocked_tags, conditions_json, "
+          + "title_template, body_template, footer_template, weight, priority, tags "
+          + "FROM strategy_card_pool ORDER BY id";
+  private static final String PHRASES = "SELECT id, slot_key, tone, text, weight FROM phrase_pool ORDER BY id";
+  private static final String STRATEGY_SLOTS =
+      "SELECT id, slot_key, tone, text, weight FROM strategy_slot_pool ORDER BY id";
+  private static final String STYLE_PROFILES =
+      "SELECT id, tone, emoji_rate, heading_style FROM style_profile ORDER BY id";
+  private static final String RULE_MAPS =
+      "SELECT id, score_band, mandatory_types, optional_types, max_cards, dedupe_key_rules "
+          + "FROM strategy_rule_map ORDER BY id";
+  private static final String KEYWORDS = "SELECT id, keyword, normalized, tag FROM keyword_dictionary ORDER BY id";
+  private static final String KEYWORD_RULES =
+      "SELECT id, keyword_id, score_delta, tag, description, weight FROM keyword_rule ORDER BY id";
+  private static final String CHOICES = "SELECT id, value, label FROM choice ORDER BY id";
+
+  private final JdbcTemplate jdbc;
+
+  public JdbcContentSource(DataSource dataSource, @Value("${app.content.fetch-size:-2147483648}") int fetchSize) {
+    this.jdbc = new JdbcTemplate(dataSource);
+    this.jdbc.setFetchSize(fetchSize);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public ContentTables load() {
+    return new ContentTables(
+        jdbc.query(QUESTIONS, (rs, i) -> new QuestionRow(
+            rs.getLong("id"), QuestionBucket.valueOf(rs.getString("bucket")), rs.getString("text"),
+            Axis.valueOf(rs.getString("primary_axis")), axisOrNull(rs.getString("secondary_axis")),
+            rs.getBigDecimal("strength") == null ? BigDecimal.ONE : rs.getBigDecimal("strength"),
+            intOr(rs, "polarity", 1), rs.getString("tag_on_high"), rs.getString("tag_on_low"),
+            intOr(rs, "weight", 1))),
+        jdbc.query(MESSAGES, (rs, i) -> new MessageRow(
+            rs.getLong("id"), MessageCategory.valueOf(rs.getString("category")), Tone.valueOf(rs.getString("tone")),
+            rs.getInt("min_score"), rs.getInt("max_score"), rs.getString("required_tags"),
+            rs.getString("blocked_tags"), rs.getString("conditions_json"), rs.getString("text"),
+            rs.getInt("weight"), rs.getInt("priority"))),
+        jdbc.query(LONGFORM_BLOCKS, (rs, i) -> new LongformRow(
+            rs.getLong("id"), LongformSection.valueOf(rs.getString("section")), Tone.valueOf(rs.getString("tone")),
+            rs.getInt("min_score"), rs.getInt("max_score"), rs.getString("required_tags"),
+            rs.getString("blocked_tags"), rs.getString("conditions_json"), rs.getString("text_template"),
+            rs.getInt("weight"), rs.getInt("priority"))),
+        jdbc.query(STRATEGY_CARDS, (rs, i) -> new StrategyCardRow(
+            rs.getLong("id"), StrategyCardType.valueOf(rs.getString("card_type")),
+            Tone.valueOf(rs.getString("tone")), rs.getInt("min_score"), rs.getInt("max_score"),
+            rs.getString("required_tags"), rs.getString("blocked_tags"), rs.getString("conditions_json"),
+            rs.getString("title_template"), rs.getString("body_template"), rs.getString("footer_template"),
+            rs.getInt("weight"), rs.getInt("priority"), rs.getString("tags"))),
+        jdbc.query(PHRASES, (rs, i) -> new PhraseRow(
+            rs.getLong("id"), rs.getString("slot_key"), Tone.valueOf(rs.getString("tone")), rs.getString("text"),
+            rs.getInt("weight"))),
+        jdbc.query(STRATEGY_SLOTS, (rs, i) -> new StrategySlotRow(
+            rs.getLong("id"), rs.getString("slot_key"), Tone.valueOf(rs.getString("tone")), rs.getString("text"),
+            rs.getInt("weight"))),
+        jdbc.query(STYLE_PROFILES, (rs, i) -> new StyleRow(
+            rs.getLong("id"), Tone.valueOf(rs.getString("tone")), rs.getInt("emoji_rate"),
+            rs.getString("heading_style"))),
+        jdbc.query(RULE_MAPS, (rs, i) -> new RuleMapRow(
+            rs.getLong("id"), ScoreBand.valueOf(rs.getString("score_band")), rs.getString("mandatory_types"),
+            rs.getString("optional_types"), rs.getInt("max_cards"), rs.getString("dedupe_key_rules"))),
+        jdbc.query(KEYWORDS, (rs, i) -> new KeywordRow(
+            rs.getLong("id"), rs.getString("keyword"), rs.getString("normalized"), rs.getString("tag"))),
+        jdbc.query(KEYWORD_RULES, (rs, i) -> new KeywordRuleRow(
+            rs.getLong("id"), rs.getLong("keyword_id"), rs.getInt("score_delta"), rs.getString("tag"),
+            rs.getString("description"), rs.getInt("weight"))),
+        jdbc.query(CHOICES, (rs, i) -> new ChoiceRow(rs.getInt("id"), rs.getInt("value"), rs.getString("label")))
+    );
+  }
+
+  private static Axis axisOrNull(String value) {
+    return value == null ? null : Axis.valueOf(value);
+  }
+
+  private static int intOr(ResultSet rs, String column, int fallback) throws SQLException {
+    int value = rs.getInt(column);
+    return rs.wasNull() ? fallback : value;
+  }
+}
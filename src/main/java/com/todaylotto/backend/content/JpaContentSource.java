@@ -0,0 +1,130 @@
+package com.todaylotto.backend.content;
+
+import com.todaylotto.backend.content.ContentTables.ChoiceRow;
+import com.todaylotto.backend.content.ContentTables.KeywordRow;
+import com.todaylotto.backend.content.ContentTables.KeywordRuleRow;
+import com.todaylotto.backend.content.ContentTables.LongformRow;
+import com.todaylotto.backend.content.ContentTables.MessageRow;
+import com.todaylotto.backend.content.ContentTables.PhraseRow;
+import com.todaylotto.backend.content.ContentTables.QuestionRow;
+import com.todaylotto.backend.content.ContentTables.RuleMapRow;
+import com.todaylotto.backend.content.ContentTables.StrategyCardRow;
+import com.todaylotto.backend.content.ContentTables.StrategySlotRow;
+import com.todaylotto.backend.content.ContentTables.StyleRow;
+import com.todaylotto.backend.repo.ChoiceRepository;
+import com.todaylotto.backend.repo.KeywordDictionaryRepository;
+import com.todaylotto.backend.repo.KeywordRuleRepository;
+import com.todaylotto.backend.repo.LongformBlockRepository;
+import com.todaylotto.backend.repo.MessagePoolRepository;
+import com.todaylotto.backend.repo.PhrasePoolRepository;
+import com.todaylotto.backend.repo.QuestionRepository;
+import com.todaylotto.backend.repo.StrategyCardPoolRepository;
+import com.todaylotto.backend.repo.StrategyRuleMapRepository;
+import com.todaylotto.backend.repo.StrategySlotPoolRepository;
+import com.todaylotto.backend.repo.StyleProfileRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+
+/**
+ * Loads content through the JPA entities (app.content.source=jpa); kept to compare against {@link JdbcContentSource}.
+ * - Entities are @Immutable and the transaction is read-only, so Hibernate runs with FlushMode.MANUAL and keeps
+ *   no dirty-checking snapshots; the persistence context still holds every entity until load() returns
+ */
+@Component
+@ConditionalOnProperty(name = "app.content.source", havingValue = "jpa")
+public class JpaContentSource implements ContentSource {
+  private static final Sort BY_ID = Sort.by("id");
+
+  private final QuestionRepository questionRepo;
+  private final MessagePoolRepository messageRepo;
+  private final LongformBlockRepository blockRepo;
+  private final StrategyCardPoolRepository cardRepo;
+  private final PhrasePoolRepository phraseRepo;
+  private final StrategySlotPoolRepository slotRepo;
+  private final StyleProfileRepository styleRepo;
+  private final StrategyRuleMapRepository ruleRepo;
+  private final KeywordDictionaryRepository keywordRepo;
+  private final KeywordRuleRepository keywordRuleRepo;
+  private final ChoiceRepository choiceRepo;
+
+  public JpaContentSource(
+      QuestionRepository questionRepo,
+      MessagePoolRepository messageRepo,
+      LongformBlockRepository blockRepo,
+      StrategyCardPoolRepository cardRepo,
+      PhrasePoolRepository phraseRepo,
+      StrategySlotPoolRepository slotRepo,
+      StyleProfileRepository styleRepo,
+      StrategyRuleMapRepository ruleRepo,
+      KeywordDictionaryRepository keywordRepo,
+      KeywordRuleRepository keywordRuleRepo,
+      ChoiceRepository choiceRepo
+  ) {
+    this.questionRepo = questionRepo;
+    this.messageRepo = messageRepo;
+    this.blockRepo = blockRepo;
+    this.cardRepo = cardRepo;
+    this.phraseRepo = phraseRepo;
+    this.slotRepo = slotRepo;
+    this.styleRepo = styleRepo;
+    this.ruleRepo = ruleRepo;
+    this.keywordRepo = keywordRepo;
+    this.keywordRuleRepo = keywordRuleRepo;
+    this.choiceRepo = choiceRepo;
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public ContentTables load() {
+    return new ContentTables(
+        questionRepo.findAll(BY_ID).stream()
+            .map(q -> new QuestionRow(q.getId(), q.getBucket(), q.getText(), q.getPrimaryAxis(), q.getSecondaryAxis(),
+                q.getStrength() == null ? BigDecimal.ONE : q.getStrength(),
+                q.getPolarity() == null ? 1 : q.getPolarity(),
+                q.getTagOnHigh(), q.getTagOnLow(), q.getWeight() == null ? 1 : q.getWeight()))
+            .toList(),
+        messageRepo.findAll(BY_ID).stream()
+            .map(m -> new MessageRow(m.getId(), m.getCategory(), m.getTone(), m.getMinScore(), m.getMaxScore(),
+                m.getRequiredTags(), m.getBlockedTags(), m.getConditionsJson(), m.getText(),
+                m.getWeight(), m.getPriority()))
+            .toList(),
+        blockRepo.findAll(BY_ID).stream()
+            .map(b -> new LongformRow(b.getId(), b.getSection(), b.getTone(), b.getMinScore(), b.getMaxScore(),
+                b.getRequiredTags(), b.getBlockedTags(), b.getConditionsJson(), b.getTextTemplate(),
+                b.getWeight(), b.getPriority()))
+            .toList(),
+        cardRepo.findAll(BY_ID).stream()
+            .map(c -> new StrategyCardRow(c.getId(), c.getCardType(), c.getTone(), c.getMinScore(), c.getMaxScore(),
+                c.getRequiredTags(), c.getBlockedTags(), c.getConditionsJson(), c.getTitleTemplate(),
+                c.getBodyTemplate(), c.getFooterTemplate(), c.getWeight(), c.getPriority(), c.getTags()))
+            .toList(),
+        phraseRepo.findAll(BY_ID).stream()
+            .map(p -> new PhraseRow(p.getId(), p.getSlotKey(), p.getTone(), p.getText(), p.getWeight()))
+            .toList(),
+        slotRepo.findAll(BY_ID).stream()
+            .map(s -> new StrategySlotRow(s.getId(), s.getSlotKey(), s.getTone(), s.getText(), s.getWeight()))
+            .toList(),
+        styleRepo.findAll(BY_ID).stream()
+            .map(s -> new StyleRow(s.getId(), s.getTone(), s.getEmojiRate(), s.getHeadingStyle()))
+            .toList(),
+        ruleRepo.findAll(BY_ID).stream()
+            .map(r -> new RuleMapRow(r.getId(), r.getScoreBand(), r.getMandatoryTypes(), r.getOptionalTypes(),
+                r.getMaxCards(), r.getDedupeKeyRules()))
+            .toList(),
+        keywordRepo.findAll(BY_ID).stream()
+            .map(k -> new KeywordRow(k.getId(), k.getKeyword(), k.getNormalized(), k.getTag()))
+            .toList(),
+        keywordRuleRepo.findAll(BY_ID).stream()
+            .map(r -> new KeywordRuleRow(r.getId(), r.getKeyword().getId(), r.getScoreDelta(), r.getTag(),
+                r.getDescription(), r.getWeight()))
+            .toList(),
+        choiceRepo.findAll(BY_ID).stream()
+            .map(c -> new ChoiceRow(c.getId(), c.getValue(), c.getLabel()))
+            .toList()
+    );
+  }
+}
@@ -0,0 +1,19 @@
+package com.todaylotto.backend.content;
+
+import com.todaylotto.backend.content.ContentTables.KeywordRow;
+import com.todaylotto.backend.content.ContentTables.KeywordRuleRow;
+import com.todaylotto.backend.util.CumulativeWeights;
+
+import java.util.List;
+
+/**
+ * A dictionary keyword with its rules (id order) and their pick weights, max(1, weight).
+ * Tag ids are -1 when the keyword/rule assigns no tag.
+ */
+public record KeywordEntry(
+    KeywordRow keyword,
+    int tagId,
+    List<KeywordRuleRow> rules,
+    CumulativeWeights weights,
+    int[] ruleTagIds
+) {}
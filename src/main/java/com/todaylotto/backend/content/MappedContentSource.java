@@ -0,0 +1,26 @@
+package com.todaylotto.backend.content;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+
+/**
+ * Loads content from a {@link ContentSnapshotFile} (app.content.source=snapshot, set by the edge profile).
+ * - No datasource involved; reload() re-maps the file, so swapping the file and reloading updates a node
+ */
+@Component
+@ConditionalOnProperty(name = "app.content.source", havingValue = "snapshot")
+public class MappedContentSource implements ContentSource {
+  private final Path path;
+
+  public MappedContentSource(@Value("${app.content.snapshot-path}") String path) {
+    this.path = Path.of(path);
+  }
+
+  @Override
+  public ContentTables load() {
+    return ContentSnapshotFile.read(path);
+  }
+}
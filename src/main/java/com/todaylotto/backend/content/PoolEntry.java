@@ -0,0 +1,18 @@
+package com.todaylotto.backend.content;
+
+import com.todaylotto.backend.content.ContentTables.PoolRow;
+import com.todaylotto.backend.util.CompiledTemplate;
+import com.todaylotto.backend.util.Condition;
+
+/**
+ * A pool row together with everything precomputed for it at load time.
+ * required/blocked are {@link com.todaylotto.backend.util.TagDictionary} bitmasks of required_tags/blocked_tags.
+ * template holds the row's rendered text parts ({@link CompiledTemplate#EMPTY} for pools that are not rendered).
+ */
+public record PoolEntry<R extends PoolRow>(
+    R row,
+    Condition condition,
+    long[] required,
+    long[] blocked,
+    CompiledTemplate template
+) {}
@@ -0,0 +1,46 @@
+package com.todaylotto.backend.content;
+
+import com.todaylotto.backend.content.ContentTables.QuestionRow;
+import com.todaylotto.backend.domain.QuestionBucket;
+import com.todaylotto.backend.util.CumulativeWeights;
+import com.todaylotto.backend.util.SeededRng;
+
+import java.util.*;
+
+/**
+ * Questions grouped by bucket (id order) with pick weights max(1, weight) precomputed.
+ * - sample() is a weighted draw without replacement that touches only the picked rows; no copies, no shuffles
+ */
+public final class QuestionBank {
+  private final Map<QuestionBucket, List<QuestionRow>> byBucket;
+  private final Map<QuestionBucket, CumulativeWeights> weights;
+
+  private QuestionBank(Map<QuestionBucket, List<QuestionRow>> byBucket, Map<QuestionBucket, CumulativeWeights> weights) {
+    this.byBucket = byBucket;
+    this.weights = weights;
+  }
+
+  static QuestionBank build(List<QuestionRow> questions) {
+    EnumMap<QuestionBucket, List<QuestionRow>> byBucket = new EnumMap<>(QuestionBucket.class);
+    EnumMap<QuestionBucket, CumulativeWeights> weights = new EnumMap<>(QuestionBucket.class);
+    for (QuestionBucket bucket : QuestionBucket.values()) {
+      List<QuestionRow> rows = questions.stream().filter(q -> q.bucket() == bucket).toList();
+      byBucket.put(bucket, rows);
+      weights.put(bucket, CumulativeWeights.of(rows.stream().mapToInt(q -> Math.max(1, q.weight())).toArray()));
+    }
+    return new QuestionBank(Collections.unmodifiableMap(byBucket), Collections.unmodifiableMap(weights));
+  }
+
+  public List<QuestionRow> questions(QuestionBucket bucket) {
+    return byBucket.get(bucket);
+  }
+
+  /** Appends count distinct questions of the bucket to out, in draw order. */
+  public void sample(QuestionBucket bucket, int count, SeededRng rng, List<QuestionRow> out) {
+    List<QuestionRow> rows = byBucket.get(bucket);
+    if (rows.size() < count) {
+      throw new IllegalStateException("Not enough questions for bucket " + bucket + " (need >=" + count + ")");
+    }
+    for (int i : weights.get(bucket).sample(count, rng)) out.add(rows.get(i));
+  }
+}
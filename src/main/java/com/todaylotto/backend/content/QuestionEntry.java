@@ -0,0 +1,57 @@
+package com.todaylotto.backend.content;
+
+import com.todaylotto.backend.content.ContentTables.QuestionRow;
+import com.todaylotto.backend.util.TagDictionary;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * A question with its answer effects precomputed for every answer value 1..5 (arrays are indexed by value - 1).
+ * - primary: HALF_UP((value - 3) * 4 * strength * polarity); secondary: the same times 0.5, 0 without a secondary axis
+ * - tagIds: tag_on_high for 4..5, tag_on_low for 1..2, -1 for 3 or when the question assigns no tag
+ */
+public record QuestionEntry(
+    QuestionRow row,
+    int[] primaryDeltas,
+    int[] secondaryDeltas,
+    int[] tagIds
+) {
+  public static final int MIN_VALUE = 1;
+  public static final int MAX_VALUE = 5;
+
+  private static final BigDecimal HALF = new BigDecimal("0.5");
+
+  static QuestionEntry compile(QuestionRow q, TagDictionary tags) {
+    int n = MAX_VALUE - MIN_VALUE + 1;
+    int[] primary = new int[n];
+    int[] secondary = new int[n];
+    int[] tagIds = new int[n];
+    for (int value = MIN_VALUE; value <= MAX_VALUE; value++) {
+      int i = value - MIN_VALUE;
+      BigDecimal deltaBase = BigDecimal.valueOf((value - 3) * 4L); // -8,-4,0,+4,+8
+      BigDecimal polarity = BigDecimal.valueOf(q.polarity());
+
+      primary[i] = deltaBase.multiply(q.strength()).multiply(polarity)
+          .setScale(0, RoundingMode.HALF_UP).intValueExact();
+      if (q.secondaryAxis() != null) {
+        secondary[i] = deltaBase.multiply(q.strength()).multiply(HALF).multiply(polarity)
+            .setScale(0, RoundingMode.HALF_UP).intValueExact();
+      }
+      tagIds[i] = value >= 4 ? tags.id(q.tagOnHigh()) : value <= 2 ? tags.id(q.tagOnLow()) : -1;
+    }
+    return new QuestionEntry(q, primary, secondary, tagIds);
+  }
+
+  public int primaryDelta(int value) {
+    return primaryDeltas[value - MIN_VALUE];
+  }
+
+  public int secondaryDelta(int value) {
+    return secondaryDeltas[value - MIN_VALUE];
+  }
+
+  public int tagId(int value) {
+    return tagIds[value - MIN_VALUE];
+  }
+}
@@ -0,0 +1,76 @@
+package com.todaylotto.backend.content;
+
+import com.todaylotto.backend.domain.Tone;
+import com.todaylotto.backend.util.CumulativeWeights;
+import com.todaylotto.backend.util.SeededRng;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * Slot-keyed option pools (phrase_pool, strategy_slot_pool).
+ * - Slot keys get dense ids in first-seen order, so compiled templates can reference a pool by int
+ * - options(id, tone) holds the rows whose tone is the given tone or ANY, in id order
+ * - pick(id, tone, rng) draws from precomputed prefix sums; same draw and result as WeightedPicker over options()
+ */
+public final class SlotPools<T> {
+  private final Map<String, Integer> ids;
+  private final List<EnumMap<Tone, List<T>>> byId;
+  private final List<EnumMap<Tone, CumulativeWeights>> weightsById;
+
+  private SlotPools(
+      Map<String, Integer> ids, List<EnumMap<Tone, List<T>>> byId, List<EnumMap<Tone, CumulativeWeights>> weightsById) {
+    this.ids = ids;
+    this.byId = byId;
+    this.weightsById = weightsById;
+  }
+
+  static <T> SlotPools<T> build(
+      List<T> rows, Function<T, String> slotFn, Function<T, Tone> toneFn, ToIntFunction<T> weightFn) {
+    Map<String, List<T>> bySlot = new LinkedHashMap<>();
+    for (T row : rows) bySlot.computeIfAbsent(slotFn.apply(row), k -> new ArrayList<>()).add(row);
+
+    Map<String, Integer> ids = new HashMap<>();
+    List<EnumMap<Tone, List<T>>> byId = new ArrayList<>(bySlot.size());
+    List<EnumMap<Tone, CumulativeWeights>> weightsById = new ArrayList<>(bySlot.size());
+    for (Map.Entry<String, List<T>> e : bySlot.entrySet()) {
+      EnumMap<Tone, List<T>> byTone = new EnumMap<>(Tone.class);
+      EnumMap<Tone, CumulativeWeights> weightsByTone = new EnumMap<>(Tone.class);
+      for (Tone tone : Tone.values()) {
+        List<T> matching = new ArrayList<>();
+        for (T row : e.getValue()) {
+          Tone t = toneFn.apply(row);
+          if (t == tone || t == Tone.ANY) matching.add(row);
+        }
+        byTone.put(tone, List.copyOf(matching));
+        weightsByTone.put(tone, CumulativeWeights.of(matching.stream().mapToInt(weightFn).toArray()));
+      }
+      ids.put(e.getKey(), byId.size());
+      byId.add(byTone);
+      weightsById.add(weightsByTone);
+    }
+    return new SlotPools<>(Collections.unmodifiableMap(ids), List.copyOf(byId), List.copyOf(weightsById));
+  }
+
+  /** Dense id of the slot key, -1 if no row uses it. */
+  public int id(String slotKey) {
+    Integer id = slotKey == null ? null : ids.get(slotKey);
+    return id == null ? -1 : id;
+  }
+
+  public List<T> options(int id, Tone tone) {
+    return id < 0 ? List.of() : byId.get(id).get(tone);
+  }
+
+  public List<T> options(String slotKey, Tone tone) {
+    return options(id(slotKey), tone);
+  }
+
+  /** Weighted pick among options(id, tone); null when there are none. */
+  public T pick(int id, Tone tone, SeededRng rng) {
+    if (id < 0) return null;
+    int i = weightsById.get(id).get(tone).pick(rng);
+    return i < 0 ? null : byId.get(id).get(tone).get(i);
+  }
+}
@@ -0,0 +1,45 @@
+package com.todaylotto.backend.domain;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Per-request axis state as an int[] indexed by {@link Axis#ordinal()}.
+ * - No boxing on get/set; every axis always has a value
+ * - Converted to a name-keyed map only when a response is built
+ * - Not thread-safe; fill it on one thread, then share it read-only
+ */
+public final class AxisVector {
+  private static final Axis[] AXES = Axis.values();
+
+  private final int[] values = new int[AXES.length];
+
+  private AxisVector() {}
+
+  public static AxisVector filled(int value) {
+    AxisVector v = new AxisVector();
+    Arrays.fill(v.values, value);
+    return v;
+  }
+
+  public int get(Axis axis) {
+    return values[axis.ordinal()];
+  }
+
+  public void set(Axis axis, int value) {
+    values[axis.ordinal()] = value;
+  }
+
+  /** Axis name to value in declaration order, the shape of stateVector/axisDetails. */
+  public Map<String, Integer> toNameMap() {
+    Map<String, Integer> out = new LinkedHashMap<>();
+    for (Axis a : AXES) out.put(a.name(), values[a.ordinal()]);
+    return out;
+  }
+
+  @Override
+  public String toString() {
+    return toNameMap().toString();
+  }
+}
@@ -1,8 +1,10 @@
 package com.todaylotto.backend.domain;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
 
 @Entity
+@Immutable
 @Table(name = "keyword_rule")
 public class KeywordRule {
   @Id
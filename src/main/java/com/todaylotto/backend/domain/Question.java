@@ -1,9 +1,11 @@
 package com.todaylotto.backend.domain;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
 import java.math.BigDecimal;
 
 @Entity
+@Immutable
 @Table(name = "question")
 public class Question {
   @Id
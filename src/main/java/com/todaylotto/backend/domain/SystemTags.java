@@ -0,0 +1,26 @@
+package com.todaylotto.backend.domain;
+
+import java.util.List;
+
+/**
+ * Tags assigned by the scoring code itself rather than by content rows.
+ */
+public final class SystemTags {
+  public static final String STABILITY_LOW = "STABILITY_LOW";
+  public static final String STABILITY_HIGH = "STABILITY_HIGH";
+  public static final String IMPULSIVITY_HIGH = "IMPULSIVITY_HIGH";
+  public static final String IMPULSIVITY_LOW = "IMPULSIVITY_LOW";
+  public static final String MONEY_TIGHT = "MONEY_TIGHT";
+  public static final String MONEY_EASY = "MONEY_EASY";
+  public static final String OPTIMISM_HIGH = "OPTIMISM_HIGH";
+  public static final String ENERGY_HIGH_TAG = "ENERGY_HIGH_TAG";
+  public static final String ENERGY_LOW_TAG = "ENERGY_LOW_TAG";
+  public static final String DONT_BUY_TODAY = "DONT_BUY_TODAY";
+
+  public static final List<String> ALL = List.of(
+      STABILITY_LOW, STABILITY_HIGH, IMPULSIVITY_HIGH, IMPULSIVITY_LOW, MONEY_TIGHT,
+      MONEY_EASY, OPTIMISM_HIGH, ENERGY_HIGH_TAG, ENERGY_LOW_TAG, DONT_BUY_TODAY
+  );
+
+  private SystemTags() {}
+}
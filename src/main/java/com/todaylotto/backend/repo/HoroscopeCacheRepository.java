@@ -0,0 +1,55 @@
+package com.todaylotto.backend.repo;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Plain JDBC access to horoscope_cache (the {@link com.todaylotto.backend.domain.HoroscopeCache} table).
+ * - Writes go through JDBC batches; a key that is already stored gets the new created_at and response, so an
+ *   expired row that the purge has not reached yet is refreshed instead of missing until it is deleted
+ * - Deletes are LIMITed so a purge never holds row locks on more than one chunk at a time
+ * - Not created when the score store is disabled, so DB-less (edge) nodes need no JdbcTemplate
+ */
+@Repository
+@ConditionalOnProperty(name = "app.score-store.enabled", havingValue = "true", matchIfMissing = true)
+public class HoroscopeCacheRepository {
+  private static final String FIND =
+      "SELECT response_json FROM horoscope_cache WHERE cache_key = ? AND created_at >= ?";
+  // VALUES(col) rather than a row alias: Connector/J can rewrite this form into one multi-row statement
+  private static final String UPSERT =
+      "INSERT INTO horoscope_cache (cache_key, created_at, response_json) VALUES (?, ?, ?) "
+          + "ON DUPLICATE KEY UPDATE created_at = VALUES(created_at), response_json = VALUES(response_json)";
+  private static final String DELETE_EXPIRED =
+      "DELETE FROM horoscope_cache WHERE created_at < ? ORDER BY created_at LIMIT ?";
+
+  private final JdbcTemplate jdbc;
+
+  public HoroscopeCacheRepository(JdbcTemplate jdbc) {
+    this.jdbc = jdbc;
+  }
+
+  public record Row(String cacheKey, LocalDateTime createdAt, String responseJson) {}
+
+  public Optional<String> findResponseJson(String cacheKey, LocalDateTime notBefore) {
+    List<String> rows = jdbc.queryForList(FIND, String.class, cacheKey, Timestamp.valueOf(notBefore));
+    return rows.isEmpty() ? Optional.empty() : Optional.of(rows.get(0));
+  }
+
+  public void upsertAll(List<Row> rows) {
+    List<Object[]> args = new ArrayList<>(rows.size());
+    for (Row r : rows) args.add(new Object[] {r.cacheKey(), Timestamp.valueOf(r.createdAt()), r.responseJson()});
+    jdbc.batchUpdate(UPSERT, args);
+  }
+
+  /** Deletes at most limit rows created before cutoff, oldest first; returns how many were deleted. */
+  public int deleteCreatedBefore(LocalDateTime cutoff, int limit) {
+    return jdbc.update(DELETE_EXPIRED, Timestamp.valueOf(cutoff), limit);
+  }
+}
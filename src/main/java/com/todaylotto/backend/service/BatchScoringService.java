@@ -0,0 +1,158 @@
+package com.todaylotto.backend.service;
+
+import com.todaylotto.backend.api.dto.BatchScoreItem;
+import com.todaylotto.backend.api.dto.PostScoreRequest;
+import com.todaylotto.backend.content.ContentCatalog;
+import com.todaylotto.backend.content.ContentSnapshot;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Scores many requests concurrently with the same logic as /api/score.
+ * - One content snapshot per batch, so every item sees the same content version
+ * - A shared fixed pool; each batch keeps at most window items in flight, so memory stays bounded
+ * - Items are handed to the sink in input order as soon as the head of the window completes
+ * - Iterator inputs are pulled only as the window frees up, so a streamed body is never held in full
+ * - A bad item becomes an error item; it never aborts the rest of the batch
+ * - By default items skip ScoreCache admission and ScoreStore (app.score-batch.use-score-cache=false), so a
+ *   nightly re-render does not evict interactive entries or crowd /api/score writes out of the store queue
+ */
+@Service
+public class BatchScoringService {
+  private static final Logger log = LoggerFactory.getLogger(BatchScoringService.class);
+
+  private final ScoringService scoringService;
+  private final ContentCatalog contentCatalog;
+  private final Validator validator;
+  private final ExecutorService executor;
+  private final int window;
+  private final int maxItems;
+  private final boolean useScoreCache;
+
+  public BatchScoringService(
+      ScoringService scoringService,
+      ContentCatalog contentCatalog,
+      Validator validator,
+      @Value("${app.score-batch.threads:0}") int threads,
+      @Value("${app.score-batch.max-items:10000}") int maxItems,
+      @Value("${app.score-batch.use-score-cache:false}") boolean useScoreCache
+  ) {
+    this.scoringService = scoringService;
+    this.contentCatalog = contentCatalog;
+    this.validator = validator;
+    int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    this.executor = Executors.newFixedThreadPool(poolSize, daemonThreads("score-batch-"));
+    this.window = poolSize * 2;
+    this.maxItems = maxItems;
+    this.useScoreCache = useScoreCache;
+  }
+
+  /** A parsed batch line; request is null when the line could not be read as a score request. */
+  public record BatchInput(PostScoreRequest request, String parseError) {
+    public static BatchInput of(PostScoreRequest request) {
+      return new BatchInput(request, null);
+    }
+
+    public static BatchInput malformed(String parseError) {
+      return new BatchInput(null, parseError);
+    }
+  }
+
+  @FunctionalInterface
+  public interface ItemSink {
+    void accept(BatchScoreItem item) throws IOException;
+  }
+
+  public int maxItems() {
+    return maxItems;
+  }
+
+  /** Fails fast before any item is scored, so an oversized batch is a plain 400. */
+  public void checkSize(int items) {
+    if (items > maxItems) {
+      throw new IllegalArgumentException("Batch has " + items + " items; at most " + maxItems + " are allowed");
+    }
+  }
+
+  /** Scores inputs and emits one item per input, in input order; a sink failure cancels what is still queued. */
+  public void score(List<BatchInput> inputs, ItemSink sink) throws IOException {
+    checkSize(inputs.size());
+    score(inputs.iterator(), sink);
+  }
+
+  /** Same as {@link #score(List, ItemSink)} for inputs read while scoring; the caller bounds their number. */
+  public void score(Iterator<BatchInput> inputs, ItemSink sink) throws IOException {
+    ContentSnapshot content = contentCatalog.current();
+
+    ArrayDeque<CompletableFuture<BatchScoreItem>> inFlight = new ArrayDeque<>(window);
+    try {
+      for (int i = 0; inputs.hasNext(); i++) {
+        int index = i;
+        BatchInput input = inputs.next();
+        inFlight.add(CompletableFuture.supplyAsync(() -> scoreOne(content, index, input), executor));
+        if (inFlight.size() >= window) sink.accept(inFlight.poll().join());
+        // emit finished items as each input arrives, so a slow streamed body does not hold them back
+        while (!inFlight.isEmpty() && inFlight.peek().isDone()) sink.accept(inFlight.poll().join());
+      }
+      while (!inFlight.isEmpty()) sink.accept(inFlight.poll().join());
+    } finally {
+      inFlight.forEach(f -> f.cancel(false));
+    }
+  }
+
+  private BatchScoreItem scoreOne(ContentSnapshot content, int index, BatchInput input) {
+    if (input.request() == null) return BatchScoreItem.error(index, input.parseError());
+
+    Set<ConstraintViolation<PostScoreRequest>> violations = validator.validate(input.request());
+    if (!violations.isEmpty()) {
+      String detail = violations.stream()
+          .map(v -> v.getPropertyPath() + " " + v.getMessage())
+          .sorted()
+          .findFirst()
+          .orElse("");
+      return BatchScoreItem.error(index, "Validation failed: " + detail);
+    }
+
+    try {
+      PostScoreRequest req = input.request();
+      return BatchScoreItem.ok(index, useScoreCache
+          ? scoringService.score(content, req)
+          : scoringService.scoreDetached(content, req));
+    } catch (IllegalArgumentException e) {
+      return BatchScoreItem.error(index, e.getMessage());
+    } catch (RuntimeException e) {
+      log.warn("Batch item {} failed", index, e);
+      return BatchScoreItem.error(index, "Unexpected error");
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+
+  private static ThreadFactory daemonThreads(String prefix) {
+    AtomicInteger n = new AtomicInteger();
+    return r -> {
+      Thread t = new Thread(r, prefix + n.incrementAndGet());
+      t.setDaemon(true);
+      return t;
+    };
+  }
+}
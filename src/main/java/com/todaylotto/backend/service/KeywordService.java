@@ -1,61 +1,52 @@
 package com.todaylotto.backend.service;
 
 import com.todaylotto.backend.api.dto.KeywordMatchDto;
-import com.todaylotto.backend.domain.KeywordDictionary;
-import com.todaylotto.backend.domain.KeywordRule;
-import com.todaylotto.backend.repo.KeywordDictionaryRepository;
-import com.todaylotto.backend.repo.KeywordRuleRepository;
+import com.todaylotto.backend.content.ContentSnapshot;
+import com.todaylotto.backend.content.ContentTables.KeywordRow;
+import com.todaylotto.backend.content.ContentTables.KeywordRuleRow;
+import com.todaylotto.backend.content.KeywordEntry;
 import com.todaylotto.backend.util.SeededRng;
-import com.todaylotto.backend.util.WeightedPicker;
+import com.todaylotto.backend.util.TagSet;
+import com.todaylotto.backend.util.TextNormalizer;
 import org.springframework.stereotype.Service;
 
-import java.text.Normalizer;
 import java.util.*;
 
 @Service
 public class KeywordService {
 
-  private final KeywordDictionaryRepository dictionaryRepository;
-  private final KeywordRuleRepository ruleRepository;
-
-  public KeywordService(KeywordDictionaryRepository dictionaryRepository, KeywordRuleRepository ruleRepository) {
-    this.dictionaryRepository = dictionaryRepository;
-    this.ruleRepository = ruleRepository;
-  }
-
-  public KeywordResult analyze(String extraText, SeededRng rng) {
+  public KeywordResult analyze(ContentSnapshot content, String extraText, SeededRng rng) {
     if (extraText == null || extraText.isBlank()) {
-      return new KeywordResult(0, List.of(), Set.of());
+      return new KeywordResult(0, List.of(), content.tags().newSet());
     }
 
-    String normalized = normalize(extraText);
+    String normalized = TextNormalizer.normalize(extraText);
 
-    List<KeywordDictionary> dict = dictionaryRepository.findAll();
+    List<KeywordEntry> dict = content.keywords();
     List<KeywordMatchDto> matches = new ArrayList<>();
-    Set<String> tags = new HashSet<>();
+    TagSet tags = content.tags().newSet();
     int sumDelta = 0;
 
-    for (KeywordDictionary entry : dict) {
-      String needle = entry.getNormalized();
-      if (needle == null || needle.isBlank()) continue;
-      if (!normalized.contains(needle)) continue;
+    // hits come back in dictionary order, so rule draws happen in the same order as a full dictionary scan
+    for (int hit : content.keywordAutomaton().find(normalized)) {
+      KeywordEntry entry = dict.get(hit);
+      KeywordRow keyword = entry.keyword();
 
-      if (entry.getTag() != null && !entry.getTag().isBlank()) tags.add(entry.getTag());
+      tags.add(entry.tagId());
 
-      List<KeywordRule> rules = ruleRepository.findByKeyword_Id(entry.getId());
-      if (rules == null || rules.isEmpty()) continue;
+      if (entry.rules().isEmpty()) continue;
 
-      KeywordRule chosen = WeightedPicker.pickWeighted(rules, r -> Math.max(1, r.getWeight()), rng);
-      if (chosen == null) continue;
+      int pick = entry.weights().pick(rng);
+      KeywordRuleRow chosen = entry.rules().get(pick);
 
-      sumDelta += chosen.getScoreDelta();
-      if (chosen.getTag() != null && !chosen.getTag().isBlank()) tags.add(chosen.getTag());
+      sumDelta += chosen.scoreDelta();
+      tags.add(entry.ruleTagIds()[pick]);
 
       matches.add(new KeywordMatchDto(
-          entry.getKeyword(),
-          chosen.getDescription() == null ? "" : chosen.getDescription(),
-          chosen.getScoreDelta(),
-          chosen.getTag()
+          keyword.keyword(),
+          chosen.description() == null ? "" : chosen.description(),
+          chosen.scoreDelta(),
+          chosen.tag()
       ));
     }
 
@@ -72,13 +63,5 @@ public class KeywordService {
     return new KeywordResult(sumDelta, matches, tags);
   }
 
-  private String normalize(String input) {
-    String s = input.toLowerCase(Locale.ROOT);
-    s = Normalizer.normalize(s, Normalizer.Form.NFKC);
-    s = s.replaceAll("[^0-9a-zA-Z가-힣\\s]", " ");
-    s = s.replaceAll("\\s+", " ").trim();
-    return s;
-  }
-
-  public record KeywordResult(int scoreDelta, List<KeywordMatchDto> matches, Set<String> tags) {}
+  public record KeywordResult(int scoreDelta, List<KeywordMatchDto> matches, TagSet tags) {}
 }
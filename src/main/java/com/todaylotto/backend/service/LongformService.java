@@ -1,19 +1,17 @@
 package com.todaylotto.backend.service;
 
-import com.todaylotto.backend.domain.Axis;
-import com.todaylotto.backend.domain.LongformBlock;
+import com.todaylotto.backend.content.ContentSnapshot;
+import com.todaylotto.backend.content.PoolEntry;
+import com.todaylotto.backend.content.ContentTables.LongformRow;
+import com.todaylotto.backend.content.ContentTables.PhraseRow;
+import com.todaylotto.backend.content.ContentTables.StyleRow;
+import com.todaylotto.backend.domain.AxisVector;
 import com.todaylotto.backend.domain.LongformSection;
-import com.todaylotto.backend.domain.PhrasePool;
-import com.todaylotto.backend.domain.StyleProfile;
 import com.todaylotto.backend.domain.Tone;
-import com.todaylotto.backend.repo.LongformBlockRepository;
-import com.todaylotto.backend.repo.PhrasePoolRepository;
-import com.todaylotto.backend.repo.StyleProfileRepository;
+import com.todaylotto.backend.util.CompiledTemplate;
 import com.todaylotto.backend.util.ConditionContext;
-import com.todaylotto.backend.util.ConditionEvaluator;
 import com.todaylotto.backend.util.SeededRng;
-import com.todaylotto.backend.util.TagUtils;
-import com.todaylotto.backend.util.TemplateRenderer;
+import com.todaylotto.backend.util.TagSet;
 import com.todaylotto.backend.util.WeightedPicker;
 import org.springframework.stereotype.Service;
 
@@ -22,46 +20,76 @@ import java.util.*;
 @Service
 public class LongformService {
 
-  private final LongformBlockRepository blockRepo;
-  private final PhrasePoolRepository phraseRepo;
-  private final StyleProfileRepository styleRepo;
-  private final ConditionEvaluator conditionEvaluator;
+  /** Receives each rendered section in order; markdownText is the sections joined with a blank line. */
+  @FunctionalInterface
+  public interface SectionSink {
+    void accept(int index, LongformSection section, String markdown);
+  }
 
-  public LongformService(LongformBlockRepository blockRepo, PhrasePoolRepository phraseRepo, StyleProfileRepository styleRepo, ConditionEvaluator conditionEvaluator) {
-    this.blockRepo = blockRepo;
-    this.phraseRepo = phraseRepo;
-    this.styleRepo = styleRepo;
-    this.conditionEvaluator = conditionEvaluator;
+  public LongformResult generate(
+      ContentSnapshot content,
+      int score,
+      Tone tone,
+      AxisVector axes,
+      TagSet tags,
+      boolean warningMode,
+      SeededRng rng,
+      ScoreProbe probe
+  ) {
+    return generate(content, score, tone, axes, tags, warningMode, rng, probe, (index, section, markdown) -> {});
   }
 
+  /** Same draws and text as the non-streaming call; sink sees each section as soon as it is rendered. */
   public LongformResult generate(
+      ContentSnapshot content,
       int score,
       Tone tone,
-      Map<Axis, Integer> axes,
-      Set<String> tags,
+      AxisVector axes,
+      TagSet tags,
       boolean warningMode,
-      SeededRng rng
+      SeededRng rng,
+      ScoreProbe probe,
+      SectionSink sink
   ) {
-    StyleProfile profile = styleRepo.findByTone(tone).orElse(null);
-    String heading = profile == null ? "##" : profile.getHeadingStyle();
-    int emojiRate = profile == null ? 15 : profile.getEmojiRate();
+    StyleRow profile = content.styleProfile(tone).orElse(null);
+    String heading = profile == null ? "##" : profile.headingStyle();
+    int emojiRate = profile == null ? 15 : profile.emojiRate();
 
     List<LongformSection> sections = decideSections(warningMode, rng);
     ConditionContext ctx = new ConditionContext(score, axes, tags);
 
     StringBuilder md = new StringBuilder();
-    for (LongformSection section : sections) {
-      md.append(heading).append(" ").append(titleFor(section, tone)).append("\n");
-
-      String paragraph = pickAndRenderBlock(section, score, tone, ctx, tags, rng);
+    for (int i = 0; i < sections.size(); i++) {
+      LongformSection section = sections.get(i);
+      String paragraph = pickAndRenderBlock(content, section, score, tone, ctx, tags, rng, probe);
       if (paragraph.isBlank()) paragraph = fallbackText(section, tone);
 
       if (rng.nextInt(100) < emojiRate) paragraph = paragraph + emojiForTone(tone, rng);
 
-      md.append(paragraph).append("\n\n");
+      // the report as a whole is trimmed, which only ever touches the first and last section
+      String chunk = heading + " " + titleFor(section, tone) + "\n" + paragraph;
+      if (i == 0) chunk = trimLeading(chunk);
+      if (i == sections.size() - 1) chunk = trimTrailing(chunk);
+
+      if (i > 0) md.append("\n\n");
+      md.append(chunk);
+      sink.accept(i, section, chunk);
     }
 
-    return new LongformResult(tone, md.toString().trim());
+    return new LongformResult(tone, md.toString());
+  }
+
+  // String.trim() semantics, one side at a time
+  private static String trimLeading(String s) {
+    int start = 0;
+    while (start < s.length() && s.charAt(start) <= ' ') start++;
+    return s.substring(start);
+  }
+
+  private static String trimTrailing(String s) {
+    int end = s.length();
+    while (end > 0 && s.charAt(end - 1) <= ' ') end--;
+    return s.substring(0, end);
   }
 
   private List<LongformSection> decideSections(boolean warningMode, SeededRng rng) {
@@ -89,50 +117,47 @@ public class LongformService {
   }
 
   private String pickAndRenderBlock(
+      ContentSnapshot content,
       LongformSection section,
       int score,
       Tone tone,
       ConditionContext ctx,
-      Set<String> tags,
-      SeededRng rng
+      TagSet tags,
+      SeededRng rng,
+      ScoreProbe probe
   ) {
-    List<Tone> tones = List.of(tone, Tone.ANY);
-    List<LongformBlock> raw = blockRepo.findBySectionAndMinScoreLessThanEqualAndMaxScoreGreaterThanEqualAndToneIn(section, score, score, tones);
-
-    List<LongformBlock> candidates = new ArrayList<>();
-    for (LongformBlock b : raw) {
-      if (!TagUtils.containsAll(tags, b.getRequiredTags())) continue;
-      if (TagUtils.containsAny(tags, b.getBlockedTags())) continue;
-      if (!conditionEvaluator.matches(b.getConditionsJson(), ctx)) continue;
-      candidates.add(b);
+    // index lists are already in priority order
+    List<PoolEntry<LongformRow>> indexed = content.longformBlocks(section, tone, score);
+    List<PoolEntry<LongformRow>> candidates = new ArrayList<>();
+    for (PoolEntry<LongformRow> e : indexed) {
+      if (!tags.containsAll(e.required())) continue;
+      if (tags.containsAny(e.blocked())) continue;
+      if (!e.condition().test(ctx)) continue;
+      candidates.add(e);
     }
+    probe.candidates(ScoreProbe.Pool.LONGFORM, indexed.size(), candidates.size());
 
     if (candidates.isEmpty()) return "";
-    candidates.sort(Comparator.comparing(LongformBlock::getPriority).reversed());
 
     int window = Math.min(60, candidates.size());
-    LongformBlock chosen = WeightedPicker.pickWeighted(
+    PoolEntry<LongformRow> chosen = WeightedPicker.pickWeighted(
         candidates.subList(0, window),
-        b -> Math.max(1, b.getWeight() + b.getPriority()),
+        e -> Math.max(1, e.row().weight() + e.row().priority()),
         rng
     );
     if (chosen == null) return "";
 
-    String template = chosen.getTextTemplate();
-    Set<String> slots = TemplateRenderer.extractSlots(template);
-
-    Map<String, String> slotValues = new HashMap<>();
-    for (String slot : slots) slotValues.put(slot, pickPhrase(slot, tone, rng));
+    // slots are filled in template slot order, which is the draw order of the old regex path
+    CompiledTemplate template = chosen.template();
+    String[] values = new String[template.slotCount()];
+    for (int i = 0; i < values.length; i++) values[i] = pickPhrase(content, template.slotRef(i), tone, rng);
 
-    return TemplateRenderer.render(template, slotValues);
+    return template.render(0, values);
   }
 
-  private String pickPhrase(String slotKey, Tone tone, SeededRng rng) {
-    List<Tone> tones = List.of(tone, Tone.ANY);
-    List<PhrasePool> phrases = phraseRepo.findBySlotKeyAndToneIn(slotKey, tones);
-    if (phrases == null || phrases.isEmpty()) return "";
-    PhrasePool chosen = WeightedPicker.pickWeighted(phrases, p -> Math.max(1, p.getWeight()), rng);
-    return chosen == null ? "" : chosen.getText();
+  private String pickPhrase(ContentSnapshot content, int slotId, Tone tone, SeededRng rng) {
+    PhraseRow chosen = content.phrases().pick(slotId, tone, rng);
+    return chosen == null ? "" : chosen.text();
   }
 
   private String titleFor(LongformSection section, Tone tone) {
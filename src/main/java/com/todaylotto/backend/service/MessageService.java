@@ -1,15 +1,15 @@
 package com.todaylotto.backend.service;
 
 import com.todaylotto.backend.api.dto.ResultCardDto;
-import com.todaylotto.backend.domain.Axis;
+import com.todaylotto.backend.content.ContentSnapshot;
+import com.todaylotto.backend.content.PoolEntry;
+import com.todaylotto.backend.content.ContentTables.MessageRow;
+import com.todaylotto.backend.domain.AxisVector;
 import com.todaylotto.backend.domain.MessageCategory;
-import com.todaylotto.backend.domain.MessagePool;
 import com.todaylotto.backend.domain.Tone;
-import com.todaylotto.backend.repo.MessagePoolRepository;
 import com.todaylotto.backend.util.ConditionContext;
-import com.todaylotto.backend.util.ConditionEvaluator;
 import com.todaylotto.backend.util.SeededRng;
-import com.todaylotto.backend.util.TagUtils;
+import com.todaylotto.backend.util.TagSet;
 import com.todaylotto.backend.util.WeightedPicker;
 import org.springframework.stereotype.Service;
 
@@ -18,67 +18,59 @@ import java.util.*;
 @Service
 public class MessageService {
 
-  private final MessagePoolRepository messageRepo;
-
-  private final ConditionEvaluator conditionEvaluator;
-
-  public MessageService(MessagePoolRepository messageRepo, ConditionEvaluator conditionEvaluator) {
-    this.messageRepo = messageRepo;
-    this.conditionEvaluator = conditionEvaluator;
-  }
-
   public List<ResultCardDto> pickResultCards(
+      ContentSnapshot content,
       int score,
       Tone tone,
-      Map<Axis, Integer> axes,
-      Set<String> tags,
+      AxisVector axes,
+      TagSet tags,
       boolean warningMode,
-      SeededRng rng
+      SeededRng rng,
+      ScoreProbe probe
   ) {
     List<ResultCardDto> out = new ArrayList<>();
 
-    out.addAll(pickByCategory(MessageCategory.INSIGHT, 3, score, tone, axes, tags, rng));
+    out.addAll(pickByCategory(content, MessageCategory.INSIGHT, 3, score, tone, axes, tags, rng, probe));
 
     if (warningMode) {
-      out.addAll(pickByCategory(MessageCategory.WARNING, 1, score, tone, axes, tags, rng));
-      out.addAll(pickByCategory(MessageCategory.ALTERNATIVE, 1, score, tone, axes, tags, rng));
+      out.addAll(pickByCategory(content, MessageCategory.WARNING, 1, score, tone, axes, tags, rng, probe));
+      out.addAll(pickByCategory(content, MessageCategory.ALTERNATIVE, 1, score, tone, axes, tags, rng, probe));
     }
 
     return out;
   }
 
   private List<ResultCardDto> pickByCategory(
+      ContentSnapshot content,
       MessageCategory category,
       int count,
       int score,
       Tone tone,
-      Map<Axis, Integer> axes,
-      Set<String> tags,
-      SeededRng rng
+      AxisVector axes,
+      TagSet tags,
+      SeededRng rng,
+      ScoreProbe probe
   ) {
-    List<Tone> tones = List.of(tone, Tone.ANY);
-    List<MessagePool> raw = messageRepo.findByCategoryAndMinScoreLessThanEqualAndMaxScoreGreaterThanEqualAndToneIn(
-        category, score, score, tones);
-
     ConditionContext ctx = new ConditionContext(score, axes, tags);
 
-    List<MessagePool> candidates = new ArrayList<>();
-    for (MessagePool m : raw) {
-      if (!TagUtils.containsAll(tags, m.getRequiredTags())) continue;
-      if (TagUtils.containsAny(tags, m.getBlockedTags())) continue;
-      if (!conditionEvaluator.matches(m.getConditionsJson(), ctx)) continue;
-      candidates.add(m);
+    // index lists are already in priority order
+    List<PoolEntry<MessageRow>> indexed = content.messages(category, tone, score);
+    List<MessageRow> candidates = new ArrayList<>();
+    for (PoolEntry<MessageRow> e : indexed) {
+      if (!tags.containsAll(e.required())) continue;
+      if (tags.containsAny(e.blocked())) continue;
+      if (!e.condition().test(ctx)) continue;
+      candidates.add(e.row());
     }
-
-    candidates.sort(Comparator.comparing(MessagePool::getPriority).reversed());
+    probe.candidates(ScoreProbe.Pool.MESSAGE, indexed.size(), candidates.size());
 
     List<ResultCardDto> picked = new ArrayList<>();
     Set<Long> used = new HashSet<>();
 
     for (int i = 0; i < count; i++) {
-      MessagePool chosen = pickOneDedup(candidates, used, rng);
+      MessageRow chosen = pickOneDedup(candidates, used, rng);
       if (chosen == null) break;
-      used.add(chosen.getId());
+      used.add(chosen.id());
 
       String title = switch (category) {
         case INSIGHT -> "한 줄 코멘트";
@@ -87,20 +79,20 @@ public class MessageService {
         case CONCLUSION -> "결론";
       };
 
-      picked.add(new ResultCardDto(category.name(), title, chosen.getText()));
+      picked.add(new ResultCardDto(category.name(), title, chosen.text()));
     }
 
     return picked;
   }
 
-  private MessagePool pickOneDedup(List<MessagePool> candidates, Set<Long> used, SeededRng rng) {
-    List<MessagePool> available = new ArrayList<>();
-    for (MessagePool c : candidates) if (!used.contains(c.getId())) available.add(c);
+  private MessageRow pickOneDedup(List<MessageRow> candidates, Set<Long> used, SeededRng rng) {
+    List<MessageRow> available = new ArrayList<>();
+    for (MessageRow c : candidates) if (!used.contains(c.id())) available.add(c);
     if (available.isEmpty()) return null;
 
     int window = Math.min(40, available.size());
-    List<MessagePool> windowed = available.subList(0, window);
+    List<MessageRow> windowed = available.subList(0, window);
 
-    return WeightedPicker.pickWeighted(windowed, m -> Math.max(1, m.getWeight() + m.getPriority()), rng);
+    return WeightedPicker.pickWeighted(windowed, m -> Math.max(1, m.weight() + m.priority()), rng);
   }
 }
@@ -1,57 +1,61 @@
 package com.todaylotto.backend.service;
 
-import com.todaylotto.backend.domain.Question;
+import com.todaylotto.backend.api.dto.ChoiceDto;
+import com.todaylotto.backend.api.dto.GetQuestionsResponse;
+import com.todaylotto.backend.api.dto.QuestionDto;
+import com.todaylotto.backend.content.ContentCatalog;
+import com.todaylotto.backend.content.ContentSnapshot;
+import com.todaylotto.backend.content.ContentTables.ChoiceRow;
+import com.todaylotto.backend.content.ContentTables.QuestionRow;
+import com.todaylotto.backend.content.QuestionBank;
 import com.todaylotto.backend.domain.QuestionBucket;
-import com.todaylotto.backend.repo.QuestionRepository;
 import com.todaylotto.backend.util.SeededRng;
 import java.util.List;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
-import java.util.UUID;
 
 @Service
 public class QuestionService {
-  private final QuestionRepository questionRepository;
+  private final ContentCatalog contentCatalog;
+  private final SessionSeedGenerator seedGenerator;
 
-  public QuestionService(QuestionRepository questionRepository) {
-    this.questionRepository = questionRepository;
+  public QuestionService(ContentCatalog contentCatalog, SessionSeedGenerator seedGenerator) {
+    this.contentCatalog = contentCatalog;
+    this.seedGenerator = seedGenerator;
   }
 
   public QuestionSelection generateQuestionSet() {
-    String sessionSeed = UUID.randomUUID().toString();
+    String sessionSeed = seedGenerator.next();
     SeededRng rng = new SeededRng(sessionSeed);
 
-    List<Question> optimism = new ArrayList<>(questionRepository.findByBucket(QuestionBucket.OPTIMISM));
-    List<Question> stability = new ArrayList<>(questionRepository.findByBucket(QuestionBucket.STABILITY));
-    List<Question> impulsivity = new ArrayList<>(questionRepository.findByBucket(QuestionBucket.IMPULSIVITY));
-    List<Question> risk = new ArrayList<>(questionRepository.findByBucket(QuestionBucket.RISK));
-    List<Question> mix = new ArrayList<>(questionRepository.findByBucket(QuestionBucket.MIX));
+    // one weighted draw per picked question, straight from the in-memory bank
+    ContentSnapshot content = contentCatalog.current();
+    QuestionBank bank = content.questionBank();
 
-    rng.shuffle(optimism);
-    rng.shuffle(stability);
-    rng.shuffle(impulsivity);
-    rng.shuffle(risk);
-    rng.shuffle(mix);
-
-    List<Question> selected = new ArrayList<>();
-    selected.add(pickOneOrThrow(optimism, "OPTIMISM"));
-    selected.add(pickOneOrThrow(stability, "STABILITY"));
-    selected.add(pickOneOrThrow(impulsivity, "IMPULSIVITY"));
-    selected.add(pickOneOrThrow(risk, "RISK"));
-
-    if (mix.size() < 2) throw new IllegalStateException("Not enough MIX questions (need >=2).");
-    selected.add(mix.get(0));
-    selected.add(mix.get(1));
+    List<QuestionRow> selected = new ArrayList<>(6);
+    bank.sample(QuestionBucket.OPTIMISM, 1, rng, selected);
+    bank.sample(QuestionBucket.STABILITY, 1, rng, selected);
+    bank.sample(QuestionBucket.IMPULSIVITY, 1, rng, selected);
+    bank.sample(QuestionBucket.RISK, 1, rng, selected);
+    bank.sample(QuestionBucket.MIX, 2, rng, selected);
 
     rng.shuffle(selected);
-    return new QuestionSelection(sessionSeed, selected);
+    return new QuestionSelection(sessionSeed, content.version(), selected, content.choices());
   }
 
-  private Question pickOneOrThrow(List<Question> list, String bucket) {
-    if (list.isEmpty()) throw new IllegalStateException("Not enough questions for bucket " + bucket);
-    return list.get(0);
+  public GetQuestionsResponse toResponse(QuestionSelection selection) {
+    List<QuestionDto> questions = selection.questions().stream()
+        .map(q -> new QuestionDto(q.id(), q.bucket().name(), q.text()))
+        .toList();
+
+    List<ChoiceDto> choices = selection.choices().stream()
+        .map(c -> new ChoiceDto(c.value(), c.label()))
+        .toList();
+
+    return new GetQuestionsResponse(selection.sessionSeed(), choices, questions);
   }
 
-  public record QuestionSelection(String sessionSeed, List<Question> questions) {}
+  public record QuestionSelection(
+      String sessionSeed, long contentVersion, List<QuestionRow> questions, List<ChoiceRow> choices) {}
 }
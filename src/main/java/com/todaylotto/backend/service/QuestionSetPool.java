@@ -0,0 +1,150 @@
+package com.todaylotto.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.todaylotto.backend.content.ContentCatalog;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Ready-to-send GET /api/questions bodies, produced ahead of demand.
+ * - One background thread keeps a lock-free queue topped up to capacity; it is woken when depth drops below half
+ * - Every set is used once (its sessionSeed is unique) and is tagged with the content version it was drawn from;
+ *   sets from an older version are dropped on take
+ * - An empty queue never blocks: take() generates inline
+ * - capacity <= 0 disables the producer
+ */
+@Component
+public class QuestionSetPool {
+  private static final Logger log = LoggerFactory.getLogger(QuestionSetPool.class);
+  private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(200);
+  private static final long ERROR_BACKOFF_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+  private final QuestionService questionService;
+  private final ContentCatalog contentCatalog;
+  private final ObjectMapper objectMapper;
+  private final int capacity;
+
+  private final ConcurrentLinkedQueue<PreparedSet> queue = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger depth = new AtomicInteger();
+  private final Counter produced;
+  private final Counter servedFromPool;
+  private final Counter servedInline;
+  private final Counter discarded;
+
+  private volatile Thread producer;
+  private volatile boolean running;
+
+  private record PreparedSet(long contentVersion, byte[] json) {}
+
+  public QuestionSetPool(
+      QuestionService questionService,
+      ContentCatalog contentCatalog,
+      ObjectMapper objectMapper,
+      MeterRegistry registry,
+      @Value("${app.question-pool.capacity:1024}") int capacity
+  ) {
+    this.questionService = questionService;
+    this.contentCatalog = contentCatalog;
+    this.objectMapper = objectMapper;
+    this.capacity = capacity;
+
+    Gauge.builder("questions.pool.depth", depth, AtomicInteger::get)
+        .description("Prepared question sets waiting in the queue")
+        .register(registry);
+    this.produced = Counter.builder("questions.pool.produced")
+        .description("Question sets generated by the background producer")
+        .register(registry);
+    this.servedFromPool = Counter.builder("questions.pool.served")
+        .tag("source", "pool")
+        .register(registry);
+    this.servedInline = Counter.builder("questions.pool.served")
+        .tag("source", "inline")
+        .register(registry);
+    this.discarded = Counter.builder("questions.pool.discarded")
+        .description("Prepared sets dropped because the content version changed")
+        .register(registry);
+  }
+
+  @PostConstruct
+  public void start() {
+    if (capacity <= 0) return;
+    running = true;
+    Thread t = new Thread(this::produce, "question-set-producer");
+    t.setDaemon(true);
+    producer = t;
+    t.start();
+  }
+
+  @PreDestroy
+  public void stop() {
+    running = false;
+    Thread t = producer;
+    if (t != null) LockSupport.unpark(t);
+  }
+
+  /** UTF-8 JSON of a fresh GetQuestionsResponse. */
+  public byte[] take() {
+    long version = contentCatalog.current().version();
+    PreparedSet set;
+    while ((set = queue.poll()) != null) {
+      int remaining = depth.decrementAndGet();
+      if (remaining < capacity / 2) wakeProducer();
+      if (set.contentVersion() == version) {
+        servedFromPool.increment();
+        return set.json();
+      }
+      discarded.increment();
+    }
+    wakeProducer();
+    servedInline.increment();
+    return generate().json();
+  }
+
+  public int depth() {
+    return depth.get();
+  }
+
+  private void produce() {
+    while (running) {
+      try {
+        while (running && depth.get() < capacity) {
+          queue.offer(generate());
+          depth.incrementAndGet();
+          produced.increment();
+        }
+        LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+      } catch (RuntimeException e) {
+        log.warn("Question set producer failed; retrying", e);
+        LockSupport.parkNanos(this, ERROR_BACKOFF_NANOS);
+      }
+    }
+  }
+
+  private void wakeProducer() {
+    Thread t = producer;
+    if (t != null) LockSupport.unpark(t);
+  }
+
+  private PreparedSet generate() {
+    QuestionService.QuestionSelection selection = questionService.generateQuestionSet();
+    try {
+      return new PreparedSet(
+          selection.contentVersion(), objectMapper.writeValueAsBytes(questionService.toResponse(selection)));
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Could not serialize question set", e);
+    }
+  }
+}
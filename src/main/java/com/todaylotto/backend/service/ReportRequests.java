@@ -0,0 +1,49 @@
+package com.todaylotto.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.todaylotto.backend.api.dto.PostScoreRequest;
+import com.todaylotto.backend.content.ContentCatalog;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * Inputs of recent partial /api/score responses, so GET /api/score/report can take an opaque key instead of the
+ * birth date, answers and free text (which in a URL end up in access logs, proxy logs and browser history).
+ * - The key is the full-response {@link ScoreCache#key}: a SHA-256 of the inputs, which reveals none of them
+ * - Node-local and bounded (app.score-report.ttl / max-entries); an unknown or expired key means posting again
+ */
+@Component
+public class ReportRequests {
+  private final ContentCatalog contentCatalog;
+  private final Cache<String, PostScoreRequest> requests;
+
+  public ReportRequests(
+      ContentCatalog contentCatalog,
+      @Value("${app.score-report.ttl:PT30M}") Duration ttl,
+      @Value("${app.score-report.max-entries:100000}") long maxEntries
+  ) {
+    this.contentCatalog = contentCatalog;
+    this.requests = Caffeine.newBuilder()
+        .expireAfterWrite(ttl)
+        .maximumSize(Math.max(0, maxEntries))
+        .build();
+  }
+
+  /** Keeps req for a later report call and returns its key; req must already have been scored (birthDate valid). */
+  public String hold(PostScoreRequest req) {
+    LocalDate birth = LocalDate.parse(req.birthDate());
+    String key = ScoreCache.key(contentCatalog.current().version(), birth.getMonthValue(), req.sessionSeed(),
+        req.answers(), req.extraText());
+    requests.put(key, req);
+    return key;
+  }
+
+  public Optional<PostScoreRequest> get(String key) {
+    return Optional.ofNullable(requests.getIfPresent(key));
+  }
+}
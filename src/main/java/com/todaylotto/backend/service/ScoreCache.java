@@ -0,0 +1,206 @@
+package com.todaylotto.backend.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.todaylotto.backend.api.dto.AnswerDto;
+import com.todaylotto.backend.api.dto.KeywordMatchDto;
+import com.todaylotto.backend.api.dto.PostScoreResponse;
+import com.todaylotto.backend.api.dto.ResultCardDto;
+import com.todaylotto.backend.api.dto.StrategyCardDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * Memoizes score responses; a response is a pure function of its {@link #key} inputs.
+ * - Caffeine (W-TinyLFU eviction), bounded by the estimated heap size of the cached responses
+ * - Keys include the content version, so a content reload never serves stale text
+ * - max-bytes <= 0 disables caching
+ * - Entries are futures completed by the first caller; nothing slow (L2 read, scoring) runs under a map lock
+ */
+@Component
+public class ScoreCache {
+  // rough HotSpot sizes with compressed oops
+  private static final int OBJECT_BYTES = 16;
+  private static final int REF_BYTES = 4;
+  private static final int STRING_BYTES = 40;
+
+  private final AsyncCache<String, PostScoreResponse> async;
+  private final Cache<String, PostScoreResponse> cache;
+  private final long maxBytes;
+
+  public ScoreCache(@Value("${app.score-cache.max-bytes:67108864}") long maxBytes) {
+    this.maxBytes = maxBytes;
+    this.async = Caffeine.newBuilder()
+        .maximumWeight(Math.max(0, maxBytes))
+        .weigher((String key, PostScoreResponse value) -> weigh(key, value))
+        .recordStats()
+        .buildAsync();
+    this.cache = async.synchronous();
+  }
+
+  /**
+   * Canonical SHA-256 of everything the response depends on.
+   * Fields are length-prefixed so no two inputs encode the same way; blank extraText is treated like none.
+   */
+  public static String key(
+      long contentVersion, int birthMonth, String sessionSeed, List<AnswerDto> answers, String extraText) {
+    return key(contentVersion, birthMonth, sessionSeed, answers, extraText, ScoreField.ALL);
+  }
+
+  /** Key of a response limited to fields; the full field set keys exactly like {@link #key(long, int, String, List, String)}. */
+  public static String key(
+      long contentVersion, int birthMonth, String sessionSeed, List<AnswerDto> answers, String extraText,
+      Set<ScoreField> fields) {
+    StringBuilder sb = new StringBuilder(128);
+    // bump when equal inputs start producing a different response (v2: per-stage rng streams)
+    sb.append("v2|").append(Long.toHexString(contentVersion)).append('|').append(birthMonth).append('|');
+    appendField(sb, sessionSeed);
+    sb.append(answers.size()).append('|');
+    for (AnswerDto a : answers) sb.append(a.questionId()).append(':').append(a.value()).append('|');
+    appendField(sb, extraText == null || extraText.isBlank() ? "" : extraText);
+    if (fields.size() != ScoreField.ALL.size()) sb.append("fields:").append(ScoreField.mask(fields)).append('|');
+
+    try {
+      MessageDigest sha = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(sha.digest(sb.toString().getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+
+  /**
+   * Cached response for key, or the computed one; concurrent callers for the same key compute once.
+   * compute runs on the calling thread after its future is in the map, so other keys never wait on it;
+   * a failed compute is dropped from the cache and rethrown to every waiting caller.
+   */
+  public PostScoreResponse get(String key, Supplier<PostScoreResponse> compute) {
+    if (maxBytes <= 0) return compute.get();
+    CompletableFuture<PostScoreResponse> mine = new CompletableFuture<>();
+    CompletableFuture<PostScoreResponse> entry = async.get(key, (k, executor) -> mine);
+    if (entry != mine) return join(entry);
+    try {
+      PostScoreResponse response = compute.get();
+      mine.complete(response);
+      return response;
+    } catch (RuntimeException | Error e) {
+      mine.completeExceptionally(e);
+      throw e;
+    }
+  }
+
+  private static PostScoreResponse join(CompletableFuture<PostScoreResponse> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException r) throw r;
+      if (e.getCause() instanceof Error err) throw err;
+      throw e;
+    }
+  }
+
+  /** Cached response for key without computing or counting a miss; null when absent. */
+  public PostScoreResponse peek(String key) {
+    if (maxBytes <= 0) return null;
+    return cache.policy().getIfPresentQuietly(key);
+  }
+
+  public CacheStats stats() {
+    return cache.stats();
+  }
+
+  public long entries() {
+    return cache.estimatedSize();
+  }
+
+  public long weightedBytes() {
+    return cache.policy().eviction().map(e -> e.weightedSize().orElse(0L)).orElse(0L);
+  }
+
+  public long maxBytes() {
+    return maxBytes;
+  }
+
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  private static void appendField(StringBuilder sb, String value) {
+    sb.append(value.length()).append(':').append(value).append('|');
+  }
+
+  static int weigh(String key, PostScoreResponse r) {
+    long bytes = string(key) + OBJECT_BYTES + 13L * REF_BYTES + 4;
+    bytes += string(r.actionConclusion()) + string(r.grade()) + string(r.tone())
+        + string(r.longformText()) + string(r.shareText()) + string(r.reportKey());
+    bytes += intMap(r.stateVector()) + strings(r.tags());
+
+    if (r.signals() != null) {
+      bytes += OBJECT_BYTES + 5L * REF_BYTES
+          + strings(r.signals().positiveSignals()) + strings(r.signals().cautionSignals())
+          + strings(r.signals().detectedKeywords()) + strings(r.signals().appliedInteractions())
+          + intMap(r.signals().axisDetails());
+    }
+    if (r.strategyCards() != null) {
+      bytes += list(r.strategyCards().size());
+      for (StrategyCardDto c : r.strategyCards()) {
+        bytes += OBJECT_BYTES + 5L * REF_BYTES + string(c.cardType()) + string(c.title()) + string(c.body())
+            + string(c.footer()) + strings(c.tags());
+      }
+    }
+    if (r.cards() != null) {
+      bytes += list(r.cards().size());
+      for (ResultCardDto c : r.cards()) {
+        bytes += OBJECT_BYTES + 3L * REF_BYTES + string(c.category()) + string(c.title()) + string(c.body());
+      }
+    }
+    if (r.breakdown() != null) {
+      // positive/caution lists are shared with signals
+      bytes += OBJECT_BYTES + 3L * REF_BYTES;
+      List<KeywordMatchDto> matches = r.breakdown().keywordMatches();
+      if (matches != null) {
+        bytes += list(matches.size());
+        for (KeywordMatchDto m : matches) {
+          bytes += 2L * OBJECT_BYTES + 4L * REF_BYTES + string(m.keyword()) + string(m.ruleDescription())
+              + string(m.tagApplied());
+        }
+      }
+    }
+    return (int) Math.min(Integer.MAX_VALUE, bytes);
+  }
+
+  // UTF-16 upper bound; most response text is Hangul, which does not fit LATIN1 compact strings
+  private static long string(String s) {
+    return s == null ? 0 : STRING_BYTES + 2L * s.length();
+  }
+
+  private static long list(int size) {
+    return 2L * OBJECT_BYTES + (long) REF_BYTES * size;
+  }
+
+  private static long strings(List<String> values) {
+    if (values == null) return 0;
+    long bytes = list(values.size());
+    for (String s : values) bytes += string(s);
+    return bytes;
+  }
+
+  private static long intMap(Map<String, Integer> map) {
+    if (map == null) return 0;
+    long bytes = 2L * OBJECT_BYTES + (long) map.size() * (OBJECT_BYTES + 4L * REF_BYTES + OBJECT_BYTES);
+    for (String k : map.keySet()) bytes += string(k);
+    return bytes;
+  }
+}
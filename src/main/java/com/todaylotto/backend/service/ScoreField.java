@@ -0,0 +1,75 @@
+package com.todaylotto.backend.service;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Optional parts of a PostScoreResponse; a score request asks for a subset and the stages behind the rest are skipped.
+ * - actionConclusion, score, grade and tone are always returned, so they are not listed here
+ * - Parts are named after their JSON field; every part comes from its own rng fork, so a subset is
+ *   field-for-field identical to the same fields of a full response
+ */
+public enum ScoreField {
+  STATE_VECTOR("stateVector"),
+  TAGS("tags"),
+  SIGNALS("signals"),
+  STRATEGY_CARDS("strategyCards"),
+  CARDS("cards"),
+  LONGFORM_TEXT("longformText"),
+  BREAKDOWN("breakdown"),
+  SHARE_TEXT("shareText");
+
+  public static final Set<ScoreField> ALL = Collections.unmodifiableSet(EnumSet.allOf(ScoreField.class));
+  public static final Set<ScoreField> NONE = Collections.unmodifiableSet(EnumSet.noneOf(ScoreField.class));
+
+  private static final Set<String> ALWAYS = Set.of("actionConclusion", "score", "grade", "tone");
+
+  private final String jsonName;
+
+  ScoreField(String jsonName) {
+    this.jsonName = jsonName;
+  }
+
+  public String jsonName() {
+    return jsonName;
+  }
+
+  /**
+   * Resolves the mode/fields request options.
+   * - fields (comma separated JSON names) wins over mode; always-returned names are accepted and ignored
+   * - mode lite = always-returned fields only, full (or neither option) = everything
+   */
+  public static Set<ScoreField> parse(String mode, String fields) {
+    if (fields != null && !fields.isBlank()) {
+      EnumSet<ScoreField> out = EnumSet.noneOf(ScoreField.class);
+      for (String name : fields.split(",")) {
+        String n = name.trim();
+        if (n.isEmpty() || ALWAYS.contains(n)) continue;
+        out.add(byJsonName(n));
+      }
+      return out.size() == ALL.size() ? ALL : Collections.unmodifiableSet(out);
+    }
+    if (mode == null || mode.isBlank()) return ALL;
+    return switch (mode.trim().toLowerCase(Locale.ROOT)) {
+      case "full" -> ALL;
+      case "lite" -> NONE;
+      default -> throw new IllegalArgumentException("mode must be lite or full");
+    };
+  }
+
+  /** Bit per part in declaration order; stable input for cache keys. */
+  public static int mask(Set<ScoreField> fields) {
+    int mask = 0;
+    for (ScoreField f : fields) mask |= 1 << f.ordinal();
+    return mask;
+  }
+
+  private static ScoreField byJsonName(String name) {
+    for (ScoreField f : values()) {
+      if (f.jsonName.equals(name)) return f;
+    }
+    throw new IllegalArgumentException("Unknown field: " + name);
+  }
+}
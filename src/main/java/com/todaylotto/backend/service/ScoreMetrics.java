@@ -0,0 +1,153 @@
+package com.todaylotto.backend.service;
+
+import com.todaylotto.backend.domain.Tone;
+import com.todaylotto.backend.service.ScoreProbe.Pool;
+import com.todaylotto.backend.service.ScoreProbe.Stage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micrometer meters for the scoring pipeline (scraped via /actuator/prometheus).
+ * - score.stage / score.compute: timers with percentile histograms, tagged by tone and warning mode;
+ *   score.compute is also tagged fields=full|partial, and stages skipped for a partial response are not recorded
+ * - score.pool.candidates: rows considered and filtered out per pool; score.keyword.matches per request
+ * - score.cache.*: ScoreCache hit/miss/eviction counters and size gauges
+ * - Meters are registered up front, so recording is array lookups only; app.metrics.score.enabled=false
+ *   hands out {@link ScoreProbe#DISABLED} and records nothing
+ * - Content is served from the in-memory snapshot, so the stages run no DB queries to count
+ */
+@Component
+public class ScoreMetrics {
+  private static final Tone[] TONES = Tone.values();
+
+  private final boolean enabled;
+  // [stage][tone][warning ? 1 : 0]
+  private final Timer[][][] stageTimers;
+  // [tone][warning ? 1 : 0][partial ? 1 : 0]
+  private final Timer[][][] computeTimers;
+  private final Counter[] considered;
+  private final Counter[] filtered;
+  private final DistributionSummary keywordMatches;
+
+  public ScoreMetrics(
+      MeterRegistry registry,
+      ScoreCache scoreCache,
+      @Value("${app.metrics.score.enabled:true}") boolean enabled
+  ) {
+    this.enabled = enabled;
+    if (!enabled) {
+      this.stageTimers = null;
+      this.computeTimers = null;
+      this.considered = null;
+      this.filtered = null;
+      this.keywordMatches = null;
+      return;
+    }
+
+    Stage[] stages = Stage.values();
+    this.stageTimers = new Timer[stages.length][TONES.length][2];
+    this.computeTimers = new Timer[TONES.length][2][2];
+    for (Tone tone : TONES) {
+      for (int w = 0; w < 2; w++) {
+        for (Stage stage : stages) {
+          stageTimers[stage.ordinal()][tone.ordinal()][w] = Timer.builder("score.stage")
+              .description("Time spent in one stage of an uncached score computation")
+              .tag("stage", lower(stage))
+              .tag("tone", lower(tone))
+              .tag("warning", Boolean.toString(w == 1))
+              .publishPercentileHistogram()
+              .register(registry);
+        }
+        for (int p = 0; p < 2; p++) {
+          computeTimers[tone.ordinal()][w][p] = Timer.builder("score.compute")
+              .description("Uncached score computation, all requested stages")
+              .tag("tone", lower(tone))
+              .tag("warning", Boolean.toString(w == 1))
+              .tag("fields", p == 1 ? "partial" : "full")
+              .publishPercentileHistogram()
+              .register(registry);
+        }
+      }
+    }
+
+    Pool[] pools = Pool.values();
+    this.considered = new Counter[pools.length];
+    this.filtered = new Counter[pools.length];
+    for (Pool pool : pools) {
+      considered[pool.ordinal()] = Counter.builder("score.pool.candidates")
+          .description("Pool rows returned by the candidate index")
+          .tag("pool", lower(pool))
+          .tag("outcome", "considered")
+          .register(registry);
+      filtered[pool.ordinal()] = Counter.builder("score.pool.candidates")
+          .description("Pool rows dropped by tag and condition filters")
+          .tag("pool", lower(pool))
+          .tag("outcome", "filtered")
+          .register(registry);
+    }
+
+    this.keywordMatches = DistributionSummary.builder("score.keyword.matches")
+        .description("Keyword dictionary matches per request")
+        .publishPercentileHistogram()
+        .register(registry);
+
+    bindCache(registry, scoreCache);
+  }
+
+  public ScoreProbe newProbe() {
+    return enabled ? ScoreProbe.start() : ScoreProbe.DISABLED;
+  }
+
+  public void record(ScoreProbe probe, Tone tone, boolean warningMode) {
+    if (!probe.enabled()) return;
+    int t = tone.ordinal();
+    int w = warningMode ? 1 : 0;
+
+    int partial = 0;
+    for (Stage stage : Stage.values()) {
+      if (!probe.ran(stage)) {
+        partial = 1;
+        continue;
+      }
+      stageTimers[stage.ordinal()][t][w].record(probe.stageNanos(stage), TimeUnit.NANOSECONDS);
+    }
+    computeTimers[t][w][partial].record(probe.totalNanos(), TimeUnit.NANOSECONDS);
+
+    for (Pool pool : Pool.values()) {
+      long c = probe.considered(pool);
+      if (c > 0) considered[pool.ordinal()].increment(c);
+      long f = probe.filtered(pool);
+      if (f > 0) filtered[pool.ordinal()].increment(f);
+    }
+    keywordMatches.record(probe.keywordMatches());
+  }
+
+  private static void bindCache(MeterRegistry registry, ScoreCache cache) {
+    FunctionCounter.builder("score.cache.requests", cache, c -> c.stats().hitCount())
+        .tag("result", "hit")
+        .register(registry);
+    FunctionCounter.builder("score.cache.requests", cache, c -> c.stats().missCount())
+        .tag("result", "miss")
+        .register(registry);
+    FunctionCounter.builder("score.cache.evictions", cache, c -> c.stats().evictionCount())
+        .register(registry);
+    Gauge.builder("score.cache.entries", cache, ScoreCache::entries)
+        .register(registry);
+    Gauge.builder("score.cache.weighted.bytes", cache, ScoreCache::weightedBytes)
+        .baseUnit("bytes")
+        .register(registry);
+  }
+
+  private static String lower(Enum<?> e) {
+    return e.name().toLowerCase(Locale.ROOT);
+  }
+}
@@ -0,0 +1,119 @@
+package com.todaylotto.backend.service;
+
+import java.util.function.Supplier;
+
+/**
+ * Per-request measurements for one uncached score() run, handed to {@link ScoreMetrics} at the end.
+ * - Stage times are laps: each lap() closes the stage that started at the previous lap;
+ *   stages that run concurrently are measured with timed() instead
+ * - Stages skipped for a partial response never lap, so ran() tells them apart from very fast ones
+ * - One probe per request; concurrent stages only write their own stage and pool slots
+ * - {@link #DISABLED} ignores every call, so instrumentation costs one branch per call site when turned off
+ */
+public final class ScoreProbe {
+  public static final ScoreProbe DISABLED = new ScoreProbe(false);
+
+  public enum Stage {
+    QUESTIONS,
+    KEYWORDS,
+    SCORE,
+    STRATEGY,
+    CARDS,
+    LONGFORM,
+    SIGNALS,
+    SHARE
+  }
+
+  public enum Pool {
+    MESSAGE,
+    LONGFORM,
+    STRATEGY
+  }
+
+  private final boolean enabled;
+  private final long[] stageNanos = new long[Stage.values().length];
+  private final boolean[] ran = new boolean[Stage.values().length];
+  private final long[] considered = new long[Pool.values().length];
+  private final long[] filtered = new long[Pool.values().length];
+  private long startNanos;
+  private long lapNanos;
+  private int keywordMatches;
+
+  private ScoreProbe(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  static ScoreProbe start() {
+    ScoreProbe probe = new ScoreProbe(true);
+    probe.startNanos = System.nanoTime();
+    probe.lapNanos = probe.startNanos;
+    return probe;
+  }
+
+  public boolean enabled() {
+    return enabled;
+  }
+
+  /** Ends the given stage now; the next stage starts here. */
+  public void lap(Stage stage) {
+    if (!enabled) return;
+    long now = System.nanoTime();
+    stageNanos[stage.ordinal()] += now - lapNanos;
+    ran[stage.ordinal()] = true;
+    lapNanos = now;
+  }
+
+  /** Runs body and adds its duration to the stage; does not move the lap mark. */
+  public <T> T timed(Stage stage, Supplier<T> body) {
+    if (!enabled) return body.get();
+    long start = System.nanoTime();
+    try {
+      return body.get();
+    } finally {
+      stageNanos[stage.ordinal()] += System.nanoTime() - start;
+      ran[stage.ordinal()] = true;
+    }
+  }
+
+  /** Moves the lap mark to now without charging the elapsed time to a stage. */
+  public void resetLap() {
+    if (!enabled) return;
+    lapNanos = System.nanoTime();
+  }
+
+  /** One candidate scan: rows the index returned vs. rows that passed the tag/condition filters. */
+  public void candidates(Pool pool, int scanned, int kept) {
+    if (!enabled) return;
+    considered[pool.ordinal()] += scanned;
+    filtered[pool.ordinal()] += scanned - kept;
+  }
+
+  public void keywordMatches(int matches) {
+    if (!enabled) return;
+    keywordMatches += matches;
+  }
+
+  long stageNanos(Stage stage) {
+    return stageNanos[stage.ordinal()];
+  }
+
+  boolean ran(Stage stage) {
+    return ran[stage.ordinal()];
+  }
+
+  long totalNanos() {
+    return lapNanos - startNanos;
+  }
+
+  long considered(Pool pool) {
+    return considered[pool.ordinal()];
+  }
+
+  long filtered(Pool pool) {
+    return filtered[pool.ordinal()];
+  }
+
+  int keywordMatches() {
+    return keywordMatches;
+  }
+}
@@ -0,0 +1,249 @@
+package com.todaylotto.backend.service;
+
+import com.todaylotto.backend.api.dto.KeywordMatchDto;
+import com.todaylotto.backend.content.ContentCatalog;
+import com.todaylotto.backend.content.KeywordEntry;
+import com.todaylotto.backend.domain.Tone;
+import com.todaylotto.backend.util.CountMinSketch;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * In-process rollups of served scores for dashboards (/actuator/scorestats and score.stats.* gauges).
+ * - One record() per response a client gets, cache hits included (see ScoringService); latency is end to end
+ * - record() is allocation-free: LongAdder cells, an HdrHistogram Recorder for latency and a count-min sketch
+ *   for detected keywords; no lock, no DB write
+ * - Scores are 0..100 integers, so they get one exact counter per value instead of a histogram
+ * - Counters are cumulative; roll() snapshots them every window and keeps the differences, so writers never pause
+ * - Top keywords are read from the sketch at roll time, ranking the current keyword dictionary
+ */
+@Component
+public class ScoreStats {
+  private static final Tone[] TONES = Tone.values();
+  private static final int SCORE_VALUES = 101;
+  private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(1);
+  private static final int SKETCH_DEPTH = 4;
+  private static final int SKETCH_WIDTH = 2048;
+
+  private final ContentCatalog contentCatalog;
+  private final boolean enabled;
+  private final int topKeywords;
+  private final int retainedWindows;
+
+  private final LongAdder requests = new LongAdder();
+  private final LongAdder warnings = new LongAdder();
+  private final LongAdder[] scores = adders(SCORE_VALUES);
+  private final LongAdder[] tones = adders(TONES.length);
+  private final Recorder latency = new Recorder(1, MAX_LATENCY_MICROS, 3);
+  private final CountMinSketch keywords = new CountMinSketch(SKETCH_DEPTH, SKETCH_WIDTH);
+
+  // roll() state, guarded by this
+  private final ArrayDeque<Window> windows = new ArrayDeque<>();
+  private Instant windowStart = Instant.now();
+  private long[] lastCounts = new long[2 + SCORE_VALUES + TONES.length];
+  private CountMinSketch lastKeywords = keywords.snapshot();
+  private Histogram latencyInterval;
+  private volatile Window latest;
+
+  /** Percentiles of one window; latency values are milliseconds. */
+  public record Distribution(double mean, double p50, double p90, double p99, double max) {
+    static final Distribution EMPTY = new Distribution(0, 0, 0, 0, 0);
+  }
+
+  public record KeywordCount(String keyword, long count) {}
+
+  /** One closed window; keyword counts are count-min estimates (never low, rarely high). */
+  public record Window(
+      Instant start,
+      Instant end,
+      long requests,
+      double warningRate,
+      Map<String, Long> tones,
+      Distribution score,
+      Distribution latencyMillis,
+      List<KeywordCount> topKeywords
+  ) {}
+
+  public ScoreStats(
+      ContentCatalog contentCatalog,
+      MeterRegistry registry,
+      @Value("${app.score-stats.enabled:true}") boolean enabled,
+      @Value("${app.score-stats.top-keywords:20}") int topKeywords,
+      @Value("${app.score-stats.retained-windows:60}") int retainedWindows
+  ) {
+    this.contentCatalog = contentCatalog;
+    this.enabled = enabled;
+    this.topKeywords = topKeywords;
+    this.retainedWindows = Math.max(1, retainedWindows);
+    if (!enabled) return;
+
+    gauge(registry, "score.stats.window.requests", "Scores served in the last closed window", w -> w.requests());
+    gauge(registry, "score.stats.window.warning.ratio", "Share of warning-mode scores in the last closed window",
+        Window::warningRate);
+    gauge(registry, "score.stats.window.score.mean", "Mean score in the last closed window", w -> w.score().mean());
+    gauge(registry, "score.stats.window.score.p50", "Median score in the last closed window", w -> w.score().p50());
+    gauge(registry, "score.stats.window.score.p90", "Score p90 in the last closed window", w -> w.score().p90());
+    gauge(registry, "score.stats.window.latency.p99", "Scoring latency p99 (ms), cache hits included, in the last closed window",
+        w -> w.latencyMillis().p99());
+    for (Tone tone : TONES) {
+      Gauge.builder("score.stats.window.tone.ratio", this, s -> toneRatio(s.latest, tone))
+          .description("Share of each tone in the last closed window")
+          .tag("tone", tone.name().toLowerCase(Locale.ROOT))
+          .register(registry);
+    }
+  }
+
+  public void record(int score, Tone tone, boolean warningMode, List<KeywordMatchDto> matches, long nanos) {
+    if (!enabled) return;
+    requests.increment();
+    if (warningMode) warnings.increment();
+    scores[Math.max(0, Math.min(SCORE_VALUES - 1, score))].increment();
+    tones[tone.ordinal()].increment();
+    latency.recordValue(Math.max(1, Math.min(MAX_LATENCY_MICROS, TimeUnit.NANOSECONDS.toMicros(nanos))));
+    // indexed loop: no iterator on the hot path
+    for (int i = 0; i < matches.size(); i++) {
+      String keyword = matches.get(i).keyword();
+      if (keyword != null) keywords.add(keyword);
+    }
+  }
+
+  /** Closed windows, newest first. */
+  public synchronized List<Window> windows() {
+    List<Window> out = new ArrayList<>(windows.size());
+    windows.descendingIterator().forEachRemaining(out::add);
+    return out;
+  }
+
+  @Scheduled(
+      initialDelayString = "${app.score-stats.window:PT1M}",
+      fixedRateString = "${app.score-stats.window:PT1M}")
+  public synchronized void roll() {
+    if (!enabled) return;
+    Instant end = Instant.now();
+
+    long[] counts = new long[lastCounts.length];
+    counts[0] = requests.sum();
+    counts[1] = warnings.sum();
+    for (int i = 0; i < SCORE_VALUES; i++) counts[2 + i] = scores[i].sum();
+    for (int i = 0; i < TONES.length; i++) counts[2 + SCORE_VALUES + i] = tones[i].sum();
+    long[] delta = new long[counts.length];
+    for (int i = 0; i < counts.length; i++) delta[i] = counts[i] - lastCounts[i];
+
+    latencyInterval = latency.getIntervalHistogram(latencyInterval);
+    CountMinSketch keywordTotals = keywords.snapshot();
+    CountMinSketch keywordWindow = keywordTotals.minus(lastKeywords);
+
+    long n = delta[0];
+    Map<String, Long> toneCounts = new LinkedHashMap<>();
+    for (int i = 0; i < TONES.length; i++) toneCounts.put(TONES[i].name(), delta[2 + SCORE_VALUES + i]);
+
+    Window window = new Window(
+        windowStart,
+        end,
+        n,
+        n == 0 ? 0 : (double) delta[1] / n,
+        toneCounts,
+        scoreDistribution(delta, n),
+        latencyDistribution(latencyInterval),
+        topKeywords(keywordWindow)
+    );
+
+    windows.addLast(window);
+    while (windows.size() > retainedWindows) windows.removeFirst();
+    latest = window;
+    lastCounts = counts;
+    lastKeywords = keywordTotals;
+    windowStart = end;
+  }
+
+  private static Distribution scoreDistribution(long[] delta, long n) {
+    if (n == 0) return Distribution.EMPTY;
+    long sum = 0;
+    int max = 0;
+    for (int s = 0; s < SCORE_VALUES; s++) {
+      sum += s * delta[2 + s];
+      if (delta[2 + s] > 0) max = s;
+    }
+    return new Distribution((double) sum / n, scoreAt(delta, n, 0.50), scoreAt(delta, n, 0.90),
+        scoreAt(delta, n, 0.99), max);
+  }
+
+  // smallest score whose cumulative count reaches q of the window
+  private static int scoreAt(long[] delta, long n, double q) {
+    long target = (long) Math.ceil(q * n);
+    long acc = 0;
+    for (int s = 0; s < SCORE_VALUES; s++) {
+      acc += delta[2 + s];
+      if (acc >= target) return s;
+    }
+    return SCORE_VALUES - 1;
+  }
+
+  private static Distribution latencyDistribution(Histogram h) {
+    if (h.getTotalCount() == 0) return Distribution.EMPTY;
+    return new Distribution(
+        h.getMean() / 1000.0,
+        h.getValueAtPercentile(50) / 1000.0,
+        h.getValueAtPercentile(90) / 1000.0,
+        h.getValueAtPercentile(99) / 1000.0,
+        h.getMaxValue() / 1000.0);
+  }
+
+  private List<KeywordCount> topKeywords(CountMinSketch window) {
+    if (topKeywords <= 0) return List.of();
+    PriorityQueue<KeywordCount> heap = new PriorityQueue<>(Comparator.comparingLong(KeywordCount::count));
+    Set<String> seen = new HashSet<>();
+    for (KeywordEntry entry : contentCatalog.current().keywords()) {
+      String keyword = entry.keyword().keyword();
+      if (keyword == null || !seen.add(keyword)) continue;
+      long count = window.estimate(keyword);
+      if (count == 0) continue;
+      if (heap.size() < topKeywords) {
+        heap.add(new KeywordCount(keyword, count));
+      } else if (count > heap.peek().count()) {
+        heap.poll();
+        heap.add(new KeywordCount(keyword, count));
+      }
+    }
+    List<KeywordCount> out = new ArrayList<>(heap);
+    out.sort(Comparator.comparingLong(KeywordCount::count).reversed().thenComparing(KeywordCount::keyword));
+    return out;
+  }
+
+  private void gauge(MeterRegistry registry, String name, String description, ToDoubleFunction<Window> value) {
+    Gauge.builder(name, this, s -> s.latest == null ? 0 : value.applyAsDouble(s.latest))
+        .description(description)
+        .register(registry);
+  }
+
+  private static double toneRatio(Window w, Tone tone) {
+    if (w == null || w.requests() == 0) return 0;
+    return (double) w.tones().get(tone.name()) / w.requests();
+  }
+
+  private static LongAdder[] adders(int n) {
+    LongAdder[] out = new LongAdder[n];
+    for (int i = 0; i < n; i++) out[i] = new LongAdder();
+    return out;
+  }
+}
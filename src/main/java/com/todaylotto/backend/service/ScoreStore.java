@@ -0,0 +1,202 @@
+package com.todaylotto.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.todaylotto.backend.api.dto.PostScoreResponse;
+import com.todaylotto.backend.repo.HoroscopeCacheRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cross-node L2 behind {@link ScoreCache}, stored in horoscope_cache under the same {@link ScoreCache#key}.
+ * - Reads happen on an L1 miss; rows older than ttl count as misses even before the purge removes them
+ * - Writes are queued and inserted in JDBC batches by one background thread; a full queue drops the write
+ * - A scheduled purge deletes expired rows in chunks of purge-chunk rows
+ * - The store is best effort: a DB error is logged and counted, and the response is computed as usual
+ * - enabled=false (or no repository, as on edge nodes) turns every call into a no-op: no DB access, no writer thread
+ */
+@Component
+public class ScoreStore {
+  private static final Logger log = LoggerFactory.getLogger(ScoreStore.class);
+  private static final long FLUSH_WAIT_MILLIS = 200;
+  private static final long SHUTDOWN_WAIT_MILLIS = 5_000;
+
+  private final HoroscopeCacheRepository repository;
+  private final ObjectMapper objectMapper;
+  private final boolean enabled;
+  private final Duration ttl;
+  private final int batchSize;
+  private final int purgeChunk;
+
+  private final BlockingQueue<Pending> queue;
+  private final Counter hits;
+  private final Counter misses;
+  private final Counter readErrors;
+  private final Counter written;
+  private final Counter dropped;
+  private final Counter writeErrors;
+  private final Counter purged;
+
+  private volatile Thread writer;
+  private volatile boolean running;
+
+  private record Pending(String key, LocalDateTime createdAt, PostScoreResponse response) {}
+
+  public ScoreStore(
+      @Nullable HoroscopeCacheRepository repository,
+      ObjectMapper objectMapper,
+      MeterRegistry registry,
+      @Value("${app.score-store.enabled:true}") boolean enabled,
+      @Value("${app.score-store.ttl:P3D}") Duration ttl,
+      @Value("${app.score-store.queue-capacity:10000}") int queueCapacity,
+      @Value("${app.score-store.batch-size:200}") int batchSize,
+      @Value("${app.score-store.purge-chunk:1000}") int purgeChunk
+  ) {
+    if (batchSize <= 0 || purgeChunk <= 0 || queueCapacity <= 0) {
+      throw new IllegalArgumentException("score-store queue-capacity, batch-size and purge-chunk must be positive");
+    }
+    this.repository = repository;
+    this.objectMapper = objectMapper;
+    this.enabled = enabled && repository != null;
+    this.ttl = ttl;
+    this.batchSize = batchSize;
+    this.purgeChunk = purgeChunk;
+    this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+    this.hits = Counter.builder("score.store.requests").tag("result", "hit").register(registry);
+    this.misses = Counter.builder("score.store.requests").tag("result", "miss").register(registry);
+    this.readErrors = Counter.builder("score.store.requests").tag("result", "error").register(registry);
+    this.written = Counter.builder("score.store.writes").tag("outcome", "written").register(registry);
+    this.dropped = Counter.builder("score.store.writes")
+        .description("Writes dropped because the write-behind queue was full")
+        .tag("outcome", "dropped")
+        .register(registry);
+    this.writeErrors = Counter.builder("score.store.writes").tag("outcome", "failed").register(registry);
+    this.purged = Counter.builder("score.store.purged")
+        .description("Expired horoscope_cache rows deleted")
+        .register(registry);
+    Gauge.builder("score.store.queue.depth", queue, BlockingQueue::size)
+        .description("Responses waiting to be written to horoscope_cache")
+        .register(registry);
+  }
+
+  @PostConstruct
+  public void start() {
+    if (!enabled) return;
+    running = true;
+    Thread t = new Thread(this::drain, "score-store-writer");
+    t.setDaemon(true);
+    writer = t;
+    t.start();
+  }
+
+  /** Stops the writer after it has flushed what is already queued (bounded wait). */
+  @PreDestroy
+  public void stop() throws InterruptedException {
+    running = false;
+    Thread t = writer;
+    if (t != null) t.join(SHUTDOWN_WAIT_MILLIS);
+  }
+
+  public Optional<PostScoreResponse> get(String key) {
+    if (!enabled) return Optional.empty();
+    try {
+      Optional<String> json = repository.findResponseJson(key, LocalDateTime.now().minus(ttl));
+      if (json.isEmpty()) {
+        misses.increment();
+        return Optional.empty();
+      }
+      PostScoreResponse response = objectMapper.readValue(json.get(), PostScoreResponse.class);
+      hits.increment();
+      return Optional.of(response);
+    } catch (JsonProcessingException | RuntimeException e) {
+      readErrors.increment();
+      log.warn("Score store read failed for key {}", key, e);
+      return Optional.empty();
+    }
+  }
+
+  /** Queues the response for the next batch; never blocks the caller. */
+  public void put(String key, PostScoreResponse response) {
+    if (!enabled) return;
+    if (!queue.offer(new Pending(key, LocalDateTime.now(), response))) dropped.increment();
+  }
+
+  @Scheduled(
+      initialDelayString = "${app.score-store.purge-interval:PT10M}",
+      fixedDelayString = "${app.score-store.purge-interval:PT10M}")
+  public void purgeExpired() {
+    if (!enabled) return;
+    LocalDateTime cutoff = LocalDateTime.now().minus(ttl);
+    long total = 0;
+    try {
+      int deleted;
+      do {
+        deleted = repository.deleteCreatedBefore(cutoff, purgeChunk);
+        total += deleted;
+        purged.increment(deleted);
+      } while (deleted == purgeChunk && running);
+    } catch (RuntimeException e) {
+      log.warn("Score store purge failed after {} rows", total, e);
+      return;
+    }
+    if (total > 0) log.info("Purged {} score store rows created before {}", total, cutoff);
+  }
+
+  private void drain() {
+    List<Pending> batch = new ArrayList<>(batchSize);
+    while (running || !queue.isEmpty()) {
+      try {
+        Pending first = queue.poll(FLUSH_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+        if (first == null) continue;
+        batch.add(first);
+        queue.drainTo(batch, batchSize - 1);
+        write(batch);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } finally {
+        batch.clear();
+      }
+    }
+  }
+
+  private void write(List<Pending> batch) {
+    List<HoroscopeCacheRepository.Row> rows = new ArrayList<>(batch.size());
+    for (Pending p : batch) {
+      try {
+        rows.add(new HoroscopeCacheRepository.Row(
+            p.key(), p.createdAt(), objectMapper.writeValueAsString(p.response())));
+      } catch (JsonProcessingException e) {
+        writeErrors.increment();
+        log.warn("Could not serialize score response for key {}", p.key(), e);
+      }
+    }
+    if (rows.isEmpty()) return;
+    try {
+      repository.upsertAll(rows);
+      written.increment(rows.size());
+    } catch (RuntimeException e) {
+      writeErrors.increment(rows.size());
+      log.warn("Score store batch of {} rows failed", rows.size(), e);
+    }
+  }
+}
@@ -6,79 +6,483 @@ import com.todaylotto.backend.api.dto.KeywordMatchDto;
 import com.todaylotto.backend.api.dto.PostScoreRequest;
 import com.todaylotto.backend.api.dto.PostScoreResponse;
 import com.todaylotto.backend.api.dto.ResultCardDto;
+import com.todaylotto.backend.api.dto.ScoreVariantDto;
+import com.todaylotto.backend.api.dto.SensitivityResponse;
 import com.todaylotto.backend.api.dto.SignalsDto;
 import com.todaylotto.backend.api.dto.StrategyCardDto;
+import com.todaylotto.backend.content.ContentCatalog;
+import com.todaylotto.backend.content.ContentSnapshot;
+import com.todaylotto.backend.content.QuestionEntry;
 import com.todaylotto.backend.domain.Axis;
-import com.todaylotto.backend.domain.Question;
+import com.todaylotto.backend.domain.AxisVector;
+import com.todaylotto.backend.domain.SystemTags;
 import com.todaylotto.backend.domain.Tone;
-import com.todaylotto.backend.repo.QuestionRepository;
 import com.todaylotto.backend.util.SeededRng;
-import java.math.BigDecimal;
+import com.todaylotto.backend.util.TagSet;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
 import java.util.*;
-
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Computes /api/score responses.
+ * - Each stage draws from its own SeededRng.fork(stage) stream, so output is deterministic per seed
+ *   regardless of how the stages are scheduled, and content edits in one stage do not reshuffle the others
+ * - With app.scoring.parallel-stages, strategy deck and result cards run on a small pool next to longform
+ *   on the request thread; a busy pool runs them inline instead of queueing
+ * - Full responses are looked up in ScoreCache (heap), then ScoreStore (shared DB table); computed ones go to both
+ * - {@link #scoreDetached} is the bulk path: it reuses a cached response but adds nothing to either cache
+ * - whatIf/sensitivity rescore changed answers without the content stages; keyword analysis runs once per call
+ * - A request may ask for a subset of {@link ScoreField}s; stages whose output is not asked for are skipped
+ * - ScoreStats records once per served score (score, scoreDetached, reportStream, sensitivity's own score), cache
+ *   hits included, timed from entry to return; whatIf variants are hypothetical and are not recorded
+ */
 @Service
 public class ScoringService {
-  private static final BigDecimal HALF = new BigDecimal("0.5");
-  private static final BigDecimal ONE  = BigDecimal.ONE;
+  // computed for every partial response too, so stats can be read from whatever response is served
+  private static final Set<ScoreField> STATS_FIELDS = EnumSet.of(ScoreField.TAGS, ScoreField.BREAKDOWN);
 
-  private final QuestionRepository questionRepository;
   private final KeywordService keywordService;
   private final LongformService longformService;
   private final StrategyService strategyService;
   private final MessageService messageService;
+  private final ContentCatalog contentCatalog;
+  private final ScoreCache scoreCache;
+  private final ScoreStore scoreStore;
+  private final ScoreMetrics scoreMetrics;
+  private final ScoreStats scoreStats;
+  private final ThreadPoolExecutor stageExecutor;
 
   public ScoringService(
-      QuestionRepository questionRepository,
       KeywordService keywordService,
       LongformService longformService,
       StrategyService strategyService,
-      MessageService messageService
+      MessageService messageService,
+      ContentCatalog contentCatalog,
+      ScoreCache scoreCache,
+      ScoreStore scoreStore,
+      ScoreMetrics scoreMetrics,
+      ScoreStats scoreStats,
+      @Value("${app.scoring.parallel-stages:true}") boolean parallelStages,
+      @Value("${app.scoring.stage-threads:0}") int stageThreads
   ) {
-    this.questionRepository = questionRepository;
     this.keywordService = keywordService;
     this.longformService = longformService;
     this.strategyService = strategyService;
     this.messageService = messageService;
+    this.contentCatalog = contentCatalog;
+    this.scoreCache = scoreCache;
+    this.scoreStore = scoreStore;
+    this.scoreMetrics = scoreMetrics;
+    this.scoreStats = scoreStats;
+    this.stageExecutor = parallelStages ? stagePool(stageThreads) : null;
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    if (stageExecutor != null) stageExecutor.shutdownNow();
   }
 
   public PostScoreResponse score(PostScoreRequest req) {
-    LocalDate birth;
+    return score(contentCatalog.current(), req, ScoreField.ALL);
+  }
+
+  public PostScoreResponse score(PostScoreRequest req, Set<ScoreField> fields) {
+    return score(contentCatalog.current(), req, fields);
+  }
+
+  /** Scores against the given snapshot; batch callers pass one snapshot for every item. */
+  public PostScoreResponse score(ContentSnapshot content, PostScoreRequest req) {
+    return score(content, req, ScoreField.ALL);
+  }
+
+  /**
+   * Response with the always-returned fields plus the given parts; the other parts are null.
+   * A cached full response for the same inputs is trimmed instead of recomputing.
+   */
+  public PostScoreResponse score(ContentSnapshot content, PostScoreRequest req, Set<ScoreField> fields) {
+    long startNanos = System.nanoTime();
+    LocalDate birth = parseBirthDate(req);
+    String key = ScoreCache.key(
+        content.version(), birth.getMonthValue(), req.sessionSeed(), req.answers(), req.extraText());
+    if (fields.size() == ScoreField.ALL.size()) {
+      PostScoreResponse response = scoreCache.get(key, () -> loadOrCompute(key, req, birth, content));
+      recordStats(response, startNanos);
+      return response;
+    }
+
+    PostScoreResponse served = scoreCache.peek(key);
+    if (served == null) {
+      Set<ScoreField> computed = EnumSet.noneOf(ScoreField.class);
+      computed.addAll(fields);
+      computed.addAll(STATS_FIELDS);
+      String partialKey = ScoreCache.key(
+          content.version(), birth.getMonthValue(), req.sessionSeed(), req.answers(), req.extraText(), fields);
+      served = scoreCache.get(partialKey, () -> compute(req, birth, content, computed));
+    }
+    recordStats(served, startNanos);
+    return select(served, fields);
+  }
+
+  /**
+   * Full response without touching the shared caches, for bulk callers such as batch re-renders.
+   * A response already in ScoreCache is reused; otherwise it is computed and neither admitted to ScoreCache
+   * nor read from or written to ScoreStore, so a large batch cannot evict the interactive working set or fill
+   * the store's write queue.
+   */
+  public PostScoreResponse scoreDetached(ContentSnapshot content, PostScoreRequest req) {
+    long startNanos = System.nanoTime();
+    LocalDate birth = parseBirthDate(req);
+    String key = ScoreCache.key(
+        content.version(), birth.getMonthValue(), req.sessionSeed(), req.answers(), req.extraText());
+    PostScoreResponse cached = scoreCache.peek(key);
+    PostScoreResponse response = cached != null ? cached : compute(req, birth, content, ScoreField.ALL);
+    recordStats(response, startNanos);
+    return response;
+  }
+
+  /**
+   * Score summary now, longform sections on demand, for streaming the report.
+   * Inputs are checked here, so a bad request fails before anything is sent; sections match a full response's
+   * longformText for the same inputs.
+   */
+  public ReportStream reportStream(PostScoreRequest req) {
+    long startNanos = System.nanoTime();
+    ContentSnapshot content = contentCatalog.current();
+    LocalDate birth = parseBirthDate(req);
+    ScoreProbe probe = scoreMetrics.newProbe();
+    Core core = prepare(req, birth, content, probe);
+    boolean warningMode = core.warningLevel() != WarningLevel.NONE;
+
+    String conclusion = conclusionFor(core.score(), core.warningLevel(), core.tone(), core.seed().fork("share"));
+    PostScoreResponse summary = new PostScoreResponse(
+        conclusion, core.score(), gradeFor(core.score()), core.tone().name(),
+        null, null, null, null, null, null, null, null);
+
+    return new ReportStream(summary, sink -> {
+      probe.timed(ScoreProbe.Stage.LONGFORM, () -> longformService.generate(
+          content, core.score(), core.tone(), core.axes(), core.tags(), warningMode, core.seed().fork("longform"),
+          probe, sink));
+      probe.resetLap();
+      scoreMetrics.record(probe, core.tone(), warningMode);
+      scoreStats.record(core.score(), core.tone(), warningMode, core.keyword().matches(),
+          System.nanoTime() - startNanos);
+    });
+  }
+
+  /**
+   * Score, grade and warning level of base with the answer to questionId set to value.
+   * Answer deltas are clamped step by step, so they are not additive: the six answers are replayed from scratch
+   * (cheap), while keyword analysis, which does not depend on the answers, is reused as-is.
+   */
+  public ScoreVariantDto whatIf(PostScoreRequest base, long questionId, int value) {
+    checkValue(value);
+    Variants variants = variants(base);
+    int index = -1;
+    for (int i = 0; i < base.answers().size() && index < 0; i++) {
+      if (base.answers().get(i).questionId() == questionId) index = i;
+    }
+    if (index < 0) throw new IllegalArgumentException("questionId=" + questionId + " is not one of the answers");
+    return variants.score(index, value);
+  }
+
+  /** The request's own score plus all answers x values 1..5 variants, from one keyword analysis. */
+  public SensitivityResponse sensitivity(PostScoreRequest req) {
+    long startNanos = System.nanoTime();
+    Variants variants = variants(req);
+    Verdict own = variants.verdict(-1, 0);
+
+    List<ScoreVariantDto> out = new ArrayList<>(req.answers().size() * QuestionEntry.MAX_VALUE);
+    for (int i = 0; i < req.answers().size(); i++) {
+      for (int v = QuestionEntry.MIN_VALUE; v <= QuestionEntry.MAX_VALUE; v++) out.add(variants.score(i, v));
+    }
+    boolean warningMode = own.warningLevel() != WarningLevel.NONE;
+    scoreStats.record(own.score(), own.tone(), warningMode, variants.keyword.matches(), System.nanoTime() - startNanos);
+    return new SensitivityResponse(own.score(), gradeFor(own.score()), own.warningLevel().name(), out);
+  }
+
+  private Variants variants(PostScoreRequest req) {
+    ContentSnapshot content = contentCatalog.current();
+    LocalDate birth = parseBirthDate(req);
+    SeededRng seed = new SeededRng(req.sessionSeed());
+    QuestionEntry[] questions = resolveQuestions(content, req.answers());
+    KeywordService.KeywordResult keyword = keywordService.analyze(content, req.extraText(), seed.fork("keyword"));
+    return new Variants(content, birth, seed, req.answers(), questions, keyword);
+  }
+
+  /** Inputs shared by every variant of one request. */
+  private final class Variants {
+    private final ContentSnapshot content;
+    private final LocalDate birth;
+    private final SeededRng seed;
+    private final List<AnswerDto> answers;
+    private final QuestionEntry[] questions;
+    private final KeywordService.KeywordResult keyword;
+
+    private Variants(
+        ContentSnapshot content,
+        LocalDate birth,
+        SeededRng seed,
+        List<AnswerDto> answers,
+        QuestionEntry[] questions,
+        KeywordService.KeywordResult keyword
+    ) {
+      this.content = content;
+      this.birth = birth;
+      this.seed = seed;
+      this.answers = answers;
+      this.questions = questions;
+      this.keyword = keyword;
+    }
+
+    ScoreVariantDto score(int index, int value) {
+      Verdict verdict = verdict(index, value);
+      return new ScoreVariantDto(
+          index < 0 ? null : answers.get(index).questionId(),
+          index < 0 ? null : value,
+          verdict.score(),
+          gradeFor(verdict.score()),
+          verdict.warningLevel().name());
+    }
+
+    /** index < 0 scores the answers as given. */
+    Verdict verdict(int index, int value) {
+      int[] values = answerValues(answers);
+      if (index >= 0) values[index] = value;
+
+      AxisVector axes = AxisVector.filled(50);
+      TagSet tags = content.tags().newSet();
+      applyAnswers(birth, questions, values, axes, tags);
+      return decide(axes, tags, keyword, seed, new ArrayList<>());
+    }
+  }
+
+  /** Summary fields of a score plus a one-shot longform renderer; see {@link #reportStream}. */
+  public static final class ReportStream {
+    private final PostScoreResponse summary;
+    private final Consumer<LongformService.SectionSink> sections;
+
+    private ReportStream(PostScoreResponse summary, Consumer<LongformService.SectionSink> sections) {
+      this.summary = summary;
+      this.sections = sections;
+    }
+
+    /** actionConclusion, score, grade and tone; every other part is null. */
+    public PostScoreResponse summary() {
+      return summary;
+    }
+
+    /** Renders the longform report into sink one section at a time, on the calling thread. */
+    public void sections(LongformService.SectionSink sink) {
+      sections.accept(sink);
+    }
+  }
+
+  private static LocalDate parseBirthDate(PostScoreRequest req) {
     try {
-      birth = LocalDate.parse(req.birthDate());
+      return LocalDate.parse(req.birthDate());
     } catch (DateTimeParseException e) {
       throw new IllegalArgumentException("birthDate must be YYYY-MM-DD");
     }
+  }
 
-    SeededRng rng = new SeededRng(req.sessionSeed());
+  private PostScoreResponse loadOrCompute(String key, PostScoreRequest req, LocalDate birth, ContentSnapshot content) {
+    Optional<PostScoreResponse> stored = scoreStore.get(key);
+    if (stored.isPresent()) return stored.get();
+    PostScoreResponse response = compute(req, birth, content, ScoreField.ALL);
+    scoreStore.put(key, response);
+    return response;
+  }
 
-    // 1) state vector starts at 50
-    EnumMap<Axis, Integer> axes = new EnumMap<>(Axis.class);
-    for (Axis a : Axis.values()) axes.put(a, 50);
+  private PostScoreResponse compute(
+      PostScoreRequest req, LocalDate birth, ContentSnapshot content, Set<ScoreField> fields) {
+    ScoreProbe probe = scoreMetrics.newProbe();
+    Core core = prepare(req, birth, content, probe);
+    SeededRng seed = core.seed();
+    AxisVector axes = core.axes();
+    TagSet tags = core.tags();
+    KeywordService.KeywordResult keyword = core.keyword();
+    List<String> interactions = core.interactions();
+    int score = core.score();
+    WarningLevel warningLevel = core.warningLevel();
+    boolean warningMode = warningLevel != WarningLevel.NONE;
+    Tone tone = core.tone();
+
+    // 9-11) strategy deck, result cards, longform: axes and tags are final from here on, each stage has its own rng
+    CompletableFuture<List<StrategyCardDto>> deckStage = !fields.contains(ScoreField.STRATEGY_CARDS)
+        ? CompletableFuture.completedFuture(null)
+        : runStage(probe, ScoreProbe.Stage.STRATEGY, () -> strategyService.buildDeck(
+            content, score, tone, axes, tags, warningMode, seed.fork("strategy"), probe));
+    CompletableFuture<List<ResultCardDto>> cardStage = !fields.contains(ScoreField.CARDS)
+        ? CompletableFuture.completedFuture(null)
+        : runStage(probe, ScoreProbe.Stage.CARDS, () -> messageService.pickResultCards(
+            content, score, tone, axes, tags, warningMode, seed.fork("cards"), probe));
+    String longformText = !fields.contains(ScoreField.LONGFORM_TEXT) ? null : probe.timed(ScoreProbe.Stage.LONGFORM,
+        () -> longformService.generate(content, score, tone, axes, tags, warningMode, seed.fork("longform"), probe))
+        .markdownText();
+    List<StrategyCardDto> strategyCards = join(deckStage);
+    List<ResultCardDto> cards = join(cardStage);
+    probe.resetLap();
 
-    applyBirthMonthAdjust(birth.getMonthValue(), axes);
+    // 12) signals/breakdown
+    SignalsDto signals = null;
+    BreakdownDto breakdown = null;
+    if (fields.contains(ScoreField.SIGNALS) || fields.contains(ScoreField.BREAKDOWN)) {
+      List<String> positive = buildPositiveSignals(score, axes, tags);
+      List<String> caution = buildCautionSignals(score, axes, tags, warningLevel);
+
+      if (fields.contains(ScoreField.SIGNALS)) {
+        Map<String, Integer> axisDetails = axes.toNameMap();
+
+        signals = new SignalsDto(
+            positive,
+            caution,
+            keyword.matches().stream().map(KeywordMatchDto::keyword).toList(),
+            interactions,
+            axisDetails
+        );
+      }
+      if (fields.contains(ScoreField.BREAKDOWN)) breakdown = new BreakdownDto(positive, caution, keyword.matches());
+      probe.lap(ScoreProbe.Stage.SIGNALS);
+    }
 
-    // 2) apply question deltas + tags
-    Set<String> tags = new HashSet<>();
+    String grade = gradeFor(score);
+    SeededRng shareRng = seed.fork("share");
+    String conclusion = conclusionFor(score, warningLevel, tone, shareRng);
+    String shareText = !fields.contains(ScoreField.SHARE_TEXT)
+        ? null
+        : shareTextFor(score, grade, conclusion, warningLevel, keyword.matches(), shareRng);
+    probe.lap(ScoreProbe.Stage.SHARE);
+    scoreMetrics.record(probe, tone, warningMode);
 
-    for (AnswerDto a : req.answers()) {
-      Question q = questionRepository.findById(a.questionId())
-          .orElseThrow(() -> new IllegalArgumentException("Unknown questionId=" + a.questionId()));
+    Map<String, Integer> stateVector = fields.contains(ScoreField.STATE_VECTOR) ? axes.toNameMap() : null;
 
-      int deltaBase = (a.value() - 3) * 4; // -8,-4,0,+4,+8
-      applyQuestionDelta(q, deltaBase, axes);
+    return new PostScoreResponse(
+        conclusion,
+        score,
+        grade,
+        tone.name(),
+        stateVector,
+        fields.contains(ScoreField.TAGS) ? tags.names() : null,
+        signals,
+        strategyCards,
+        cards,
+        longformText,
+        breakdown,
+        shareText
+    );
+  }
+
+  // every served response has tags and breakdown (see STATS_FIELDS), so hits record like computes
+  private void recordStats(PostScoreResponse response, long startNanos) {
+    scoreStats.record(response.score(), Tone.valueOf(response.tone()),
+        response.tags().contains(SystemTags.DONT_BUY_TODAY), response.breakdown().keywordMatches(),
+        System.nanoTime() - startNanos);
+  }
 
-      if (a.value() >= 4 && q.getTagOnHigh() != null && !q.getTagOnHigh().isBlank()) tags.add(q.getTagOnHigh());
-      if (a.value() <= 2 && q.getTagOnLow() != null && !q.getTagOnLow().isBlank()) tags.add(q.getTagOnLow());
+  private static PostScoreResponse select(PostScoreResponse full, Set<ScoreField> fields) {
+    return new PostScoreResponse(
+        full.actionConclusion(),
+        full.score(),
+        full.grade(),
+        full.tone(),
+        fields.contains(ScoreField.STATE_VECTOR) ? full.stateVector() : null,
+        fields.contains(ScoreField.TAGS) ? full.tags() : null,
+        fields.contains(ScoreField.SIGNALS) ? full.signals() : null,
+        fields.contains(ScoreField.STRATEGY_CARDS) ? full.strategyCards() : null,
+        fields.contains(ScoreField.CARDS) ? full.cards() : null,
+        fields.contains(ScoreField.LONGFORM_TEXT) ? full.longformText() : null,
+        fields.contains(ScoreField.BREAKDOWN) ? full.breakdown() : null,
+        fields.contains(ScoreField.SHARE_TEXT) ? full.shareText() : null
+    );
+  }
+
+  /** Result of steps 1-8; axes and tags are final once this returns. */
+  private record Core(
+      SeededRng seed,
+      AxisVector axes,
+      TagSet tags,
+      KeywordService.KeywordResult keyword,
+      List<String> interactions,
+      int score,
+      WarningLevel warningLevel,
+      Tone tone
+  ) {}
+
+  private Core prepare(PostScoreRequest req, LocalDate birth, ContentSnapshot content, ScoreProbe probe) {
+    SeededRng seed = new SeededRng(req.sessionSeed());
+    QuestionEntry[] questions = resolveQuestions(content, req.answers());
+    int[] values = answerValues(req.answers());
+
+    // 1-2) state vector, question deltas + tags
+    AxisVector axes = AxisVector.filled(50);
+    TagSet tags = content.tags().newSet();
+    applyAnswers(birth, questions, values, axes, tags);
+    probe.lap(ScoreProbe.Stage.QUESTIONS);
+
+    // 3) keyword analysis
+    KeywordService.KeywordResult keyword = keywordService.analyze(content, req.extraText(), seed.fork("keyword"));
+    probe.keywordMatches(keyword.matches().size());
+    probe.lap(ScoreProbe.Stage.KEYWORDS);
+
+    // 4-8) score, warning, tone
+    List<String> interactions = new ArrayList<>();
+    Verdict verdict = decide(axes, tags, keyword, seed, interactions);
+    probe.lap(ScoreProbe.Stage.SCORE);
+
+    return new Core(seed, axes, tags, keyword, interactions, verdict.score(), verdict.warningLevel(), verdict.tone());
+  }
+
+  private record Verdict(int score, WarningLevel warningLevel, Tone tone) {}
+
+  // checks every answer before any is applied; same messages as applying them one by one
+  private static QuestionEntry[] resolveQuestions(ContentSnapshot content, List<AnswerDto> answers) {
+    QuestionEntry[] out = new QuestionEntry[answers.size()];
+    for (int i = 0; i < out.length; i++) {
+      AnswerDto a = answers.get(i);
+      out[i] = content.question(a.questionId())
+          .orElseThrow(() -> new IllegalArgumentException("Unknown questionId=" + a.questionId()));
+      checkValue(a.value());
+    }
+    return out;
+  }
+
+  private static void checkValue(int value) {
+    if (value < QuestionEntry.MIN_VALUE || value > QuestionEntry.MAX_VALUE) {
+      throw new IllegalArgumentException("value must be between 1 and 5");
     }
+  }
+
+  private static int[] answerValues(List<AnswerDto> answers) {
+    int[] out = new int[answers.size()];
+    for (int i = 0; i < out.length; i++) out[i] = answers.get(i).value();
+    return out;
+  }
 
+  // 1) birth month on top of 50, 2) question deltas in answer order (each step clamped) + tags, derived tags
+  private void applyAnswers(LocalDate birth, QuestionEntry[] questions, int[] values, AxisVector axes, TagSet tags) {
+    applyBirthMonthAdjust(birth.getMonthValue(), axes);
+    for (int i = 0; i < questions.length; i++) {
+      applyQuestionDelta(questions[i], values[i], axes);
+      tags.add(questions[i].tagId(values[i]));
+    }
     addDerivedTags(axes, tags);
+  }
 
-    // 3) keyword analysis
-    KeywordService.KeywordResult keyword = keywordService.analyze(req.extraText(), rng);
+  // 4-8) adds keyword tags and DONT_BUY_TODAY to tags; draws only from the "score" fork
+  private Verdict decide(
+      AxisVector axes, TagSet tags, KeywordService.KeywordResult keyword, SeededRng seed, List<String> interactions) {
     tags.addAll(keyword.tags());
 
     // 4) base score
@@ -91,112 +495,81 @@ public class ScoringService {
         - 0.22 * (axes.get(Axis.IMPULSIVITY) - 50);
 
     // 5) interactions (exactly 4)
-    List<String> interactions = new ArrayList<>();
     int interactionDelta = applyInteractions(axes, interactions);
 
-    int score = clamp(Math.round((float) base) + interactionDelta + keyword.scoreDelta(), 0, 100);
+    int rawScore = clamp(Math.round((float) base) + interactionDelta + keyword.scoreDelta(), 0, 100);
 
     // 6) session noise -3..+3
-    score = clamp(score + rng.nextInt(-3, 4), 0, 100);
+    SeededRng scoreRng = seed.fork("score");
+    int score = clamp(rawScore + scoreRng.nextInt(-3, 4), 0, 100);
 
     // 7) warning decision (may enforce DONT_BUY_TODAY tag)
     WarningLevel warningLevel = decideWarning(score, axes, tags);
-    boolean warningMode = warningLevel != WarningLevel.NONE;
-    if (warningMode) tags.add("DONT_BUY_TODAY");
+    if (warningLevel != WarningLevel.NONE) tags.add(SystemTags.DONT_BUY_TODAY);
 
     // 8) tone (sessionSeed based)
-    Tone tone = pickTone(rng);
-
-    // 9) strategy deck
-    List<StrategyCardDto> strategyCards = strategyService.buildDeck(score, tone, axes, tags, warningMode, rng);
-
-    // 10) result cards
-    List<ResultCardDto> cards = messageService.pickResultCards(score, tone, axes, tags, warningMode, rng);
-
-    // 11) longform report
-    LongformService.LongformResult longform = longformService.generate(score, tone, axes, tags, warningMode, rng);
-
-    // 12) signals/breakdown
-    List<String> positive = buildPositiveSignals(score, axes, tags);
-    List<String> caution = buildCautionSignals(score, axes, tags, warningLevel);
-
-    Map<String, Integer> axisDetails = new LinkedHashMap<>();
-    for (Axis a : Axis.values()) axisDetails.put(a.name(), axes.get(a));
-
-    SignalsDto signals = new SignalsDto(
-        positive,
-        caution,
-        keyword.matches().stream().map(KeywordMatchDto::keyword).toList(),
-        interactions,
-        axisDetails
-    );
-
-    BreakdownDto breakdown = new BreakdownDto(positive, caution, keyword.matches());
-
-    String grade = gradeFor(score);
-    String conclusion = conclusionFor(score, warningLevel, tone, rng);
-    String shareText = shareTextFor(score, grade, conclusion, warningLevel, keyword.matches(), rng);
-
-    Map<String, Integer> stateVector = new LinkedHashMap<>();
-    for (Axis a : Axis.values()) stateVector.put(a.name(), axes.get(a));
+    Tone tone = pickTone(scoreRng);
+    return new Verdict(score, warningLevel, tone);
+  }
 
-    return new PostScoreResponse(
-        conclusion,
-        score,
-        grade,
-        longform.tone().name(),
-        stateVector,
-        tags.stream().sorted().toList(),
-        signals,
-        strategyCards,
-        cards,
-        longform.markdownText(),
-        breakdown,
-        shareText
-    );
+  private <T> CompletableFuture<T> runStage(ScoreProbe probe, ScoreProbe.Stage stage, Supplier<T> body) {
+    if (stageExecutor == null) return CompletableFuture.completedFuture(probe.timed(stage, body));
+    return CompletableFuture.supplyAsync(() -> probe.timed(stage, body), stageExecutor);
   }
 
-  private void applyBirthMonthAdjust(int month, EnumMap<Axis, Integer> axes) {
-    if (month >= 1 && month <= 3) axes.put(Axis.STABILITY, clamp(axes.get(Axis.STABILITY) + 5, 0, 100));
-    if (month >= 4 && month <= 6) axes.put(Axis.OPTIMISM, clamp(axes.get(Axis.OPTIMISM) + 5, 0, 100));
-    if (month >= 7 && month <= 9) axes.put(Axis.RISK, clamp(axes.get(Axis.RISK) + 5, 0, 100));
-    if (month >= 10 && month <= 12) axes.put(Axis.IMPULSIVITY, clamp(axes.get(Axis.IMPULSIVITY) - 5, 0, 100));
+  private static <T> T join(CompletableFuture<T> stage) {
+    try {
+      return stage.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) throw cause;
+      throw e;
+    }
   }
 
-  private void applyQuestionDelta(Question q, int deltaBase, EnumMap<Axis, Integer> axes) {
-    Axis primary = q.getPrimaryAxis();
-    Axis secondary = q.getSecondaryAxis();
+  // no queue: when every worker is busy the stage runs on the calling thread
+  private static ThreadPoolExecutor stagePool(int threads) {
+    int size = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    AtomicInteger n = new AtomicInteger();
+    ThreadPoolExecutor pool = new ThreadPoolExecutor(size, size, 60, TimeUnit.SECONDS, new SynchronousQueue<>(), r -> {
+      Thread t = new Thread(r, "score-stage-" + n.incrementAndGet());
+      t.setDaemon(true);
+      return t;
+    }, new ThreadPoolExecutor.CallerRunsPolicy());
+    pool.allowCoreThreadTimeOut(true);
+    return pool;
+  }
 
-    BigDecimal strength = (q.getStrength() == null) ? ONE : q.getStrength();
-    int polarity = (q.getPolarity() == null) ? 1 : q.getPolarity();
+  private void applyBirthMonthAdjust(int month, AxisVector axes) {
+    if (month >= 1 && month <= 3) axes.set(Axis.STABILITY, clamp(axes.get(Axis.STABILITY) + 5, 0, 100));
+    if (month >= 4 && month <= 6) axes.set(Axis.OPTIMISM, clamp(axes.get(Axis.OPTIMISM) + 5, 0, 100));
+    if (month >= 7 && month <= 9) axes.set(Axis.RISK, clamp(axes.get(Axis.RISK) + 5, 0, 100));
+    if (month >= 10 && month <= 12) axes.set(Axis.IMPULSIVITY, clamp(axes.get(Axis.IMPULSIVITY) - 5, 0, 100));
+  }
 
-    BigDecimal base = BigDecimal.valueOf(deltaBase).multiply(strength).multiply(BigDecimal.valueOf(polarity));
-    int pDelta = base.setScale(0, java.math.RoundingMode.HALF_UP).intValueExact();
-    axes.put(primary, clamp(axes.get(primary) + pDelta, 0, 100));
+  // deltas are precomputed per answer value; each step is still clamped on its own
+  private void applyQuestionDelta(QuestionEntry q, int value, AxisVector axes) {
+    Axis primary = q.row().primaryAxis();
+    axes.set(primary, clamp(axes.get(primary) + q.primaryDelta(value), 0, 100));
 
+    Axis secondary = q.row().secondaryAxis();
     if (secondary != null) {
-      BigDecimal sec = BigDecimal.valueOf(deltaBase)
-              .multiply(strength)
-              .multiply(HALF)
-              .multiply(BigDecimal.valueOf(polarity));
-      int sDelta = sec.setScale(0, java.math.RoundingMode.HALF_UP).intValueExact();
-      axes.put(secondary, clamp(axes.get(secondary) + sDelta, 0, 100));
+      axes.set(secondary, clamp(axes.get(secondary) + q.secondaryDelta(value), 0, 100));
     }
   }
 
-  private void addDerivedTags(EnumMap<Axis, Integer> axes, Set<String> tags) {
-    if (axes.get(Axis.STABILITY) <= 35) tags.add("STABILITY_LOW");
-    if (axes.get(Axis.STABILITY) >= 70) tags.add("STABILITY_HIGH");
-    if (axes.get(Axis.IMPULSIVITY) >= 70) tags.add("IMPULSIVITY_HIGH");
-    if (axes.get(Axis.IMPULSIVITY) <= 40) tags.add("IMPULSIVITY_LOW");
-    if (axes.get(Axis.FIN_EASE) <= 40) tags.add("MONEY_TIGHT");
-    if (axes.get(Axis.FIN_EASE) >= 70) tags.add("MONEY_EASY");
-    if (axes.get(Axis.OPTIMISM) >= 75) tags.add("OPTIMISM_HIGH");
-    if (axes.get(Axis.ENERGY) >= 70) tags.add("ENERGY_HIGH_TAG");
-    if (axes.get(Axis.ENERGY) <= 35) tags.add("ENERGY_LOW_TAG");
+  private void addDerivedTags(AxisVector axes, TagSet tags) {
+    if (axes.get(Axis.STABILITY) <= 35) tags.add(SystemTags.STABILITY_LOW);
+    if (axes.get(Axis.STABILITY) >= 70) tags.add(SystemTags.STABILITY_HIGH);
+    if (axes.get(Axis.IMPULSIVITY) >= 70) tags.add(SystemTags.IMPULSIVITY_HIGH);
+    if (axes.get(Axis.IMPULSIVITY) <= 40) tags.add(SystemTags.IMPULSIVITY_LOW);
+    if (axes.get(Axis.FIN_EASE) <= 40) tags.add(SystemTags.MONEY_TIGHT);
+    if (axes.get(Axis.FIN_EASE) >= 70) tags.add(SystemTags.MONEY_EASY);
+    if (axes.get(Axis.OPTIMISM) >= 75) tags.add(SystemTags.OPTIMISM_HIGH);
+    if (axes.get(Axis.ENERGY) >= 70) tags.add(SystemTags.ENERGY_HIGH_TAG);
+    if (axes.get(Axis.ENERGY) <= 35) tags.add(SystemTags.ENERGY_LOW_TAG);
   }
 
-  private int applyInteractions(EnumMap<Axis, Integer> axes, List<String> interactions) {
+  private int applyInteractions(AxisVector axes, List<String> interactions) {
     int delta = 0;
 
     // IMPULSIVITY≥70 AND FIN_EASE≤40 → -6
@@ -223,12 +596,12 @@ public class ScoringService {
     return delta;
   }
 
-  private WarningLevel decideWarning(int score, EnumMap<Axis, Integer> axes, Set<String> tags) {
+  private WarningLevel decideWarning(int score, AxisVector axes, TagSet tags) {
     boolean boosted =
         (axes.get(Axis.IMPULSIVITY) >= 70 && axes.get(Axis.FIN_EASE) <= 40)
             || axes.get(Axis.STABILITY) <= 35
             || tags.contains("STRESS_HIGH")
-            || tags.contains("MONEY_TIGHT");
+            || tags.contains(SystemTags.MONEY_TIGHT);
 
     if (score <= 25) return WarningLevel.STRONG;
     if (score <= 40) return boosted ? WarningLevel.STRONG : WarningLevel.NORMAL;
@@ -324,7 +697,7 @@ public class ScoringService {
     return sb.toString();
   }
 
-  private List<String> buildPositiveSignals(int score, EnumMap<Axis, Integer> axes, Set<String> tags) {
+  private List<String> buildPositiveSignals(int score, AxisVector axes, TagSet tags) {
     List<String> list = new ArrayList<>();
     if (axes.get(Axis.STABILITY) >= 65) list.add("평정이 안정적");
     if (axes.get(Axis.OPTIMISM) >= 65) list.add("기분이 낙관적");
@@ -335,7 +708,7 @@ public class ScoringService {
     return list;
   }
 
-  private List<String> buildCautionSignals(int score, EnumMap<Axis, Integer> axes, Set<String> tags, WarningLevel warning) {
+  private List<String> buildCautionSignals(int score, AxisVector axes, TagSet tags, WarningLevel warning) {
     List<String> list = new ArrayList<>();
     if (axes.get(Axis.IMPULSIVITY) >= 65) list.add("충동성이 높음");
     if (axes.get(Axis.STABILITY) <= 40) list.add("안정감이 낮음");
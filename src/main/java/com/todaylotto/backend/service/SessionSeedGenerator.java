@@ -0,0 +1,74 @@
+package com.todaylotto.backend.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.UUID;
+
+/**
+ * Session seeds in UUID text form, so {@link com.todaylotto.backend.util.SeededRng} reads them through its UUID path.
+ * - Random bits come from a per-thread DRBG, not the single SecureRandom behind UUID.randomUUID()
+ * - 14 bits of the variant word hold a node id; nodes with distinct ids can never produce the same seed
+ * - default: UUIDv4 layout with 108 random bits; SeededRng's 64-bit fold of it is fully random
+ * - time-ordered: UUIDv7 layout, 48-bit unix millis then 60 random bits; the fold keeps 48 unpredictable bits
+ */
+@Component
+public class SessionSeedGenerator {
+  public static final int MAX_NODE_ID = (1 << 14) - 1;
+
+  private static final long RANDOM_48 = (1L << 48) - 1;
+  private static final long VARIANT_RFC4122 = 0x8000_0000_0000_0000L;
+
+  private static final ThreadLocal<SecureRandom> RANDOM = ThreadLocal.withInitial(SessionSeedGenerator::newDrbg);
+
+  private final long nodeBits;
+  private final boolean timeOrdered;
+
+  public SessionSeedGenerator(
+      @Value("${app.session-seed.node-id:-1}") int nodeId,
+      @Value("${app.session-seed.time-ordered:false}") boolean timeOrdered
+  ) {
+    if (nodeId > MAX_NODE_ID) {
+      throw new IllegalArgumentException("app.session-seed.node-id must be within 0.." + MAX_NODE_ID + ": " + nodeId);
+    }
+    // unset: a random id, unique across instances only with high probability
+    int id = nodeId >= 0 ? nodeId : newDrbg().nextInt(MAX_NODE_ID + 1);
+    this.nodeBits = (long) id << 48;
+    this.timeOrdered = timeOrdered;
+  }
+
+  public int nodeId() {
+    return (int) (nodeBits >>> 48);
+  }
+
+  public String next() {
+    return nextUuid().toString();
+  }
+
+  public UUID nextUuid() {
+    SecureRandom random = RANDOM.get();
+    long r = random.nextLong();
+    long msb;
+    long lsb;
+    if (timeOrdered) {
+      // unix_ts_ms(48) | ver=7 | rand_a(12)
+      msb = (System.currentTimeMillis() << 16) | 0x7000L | (r >>> 52);
+      lsb = VARIANT_RFC4122 | nodeBits | (r & RANDOM_48);
+    } else {
+      // rand(48) | ver=4 | rand(12)
+      msb = (r & 0xFFFF_FFFF_FFFF_0FFFL) | 0x4000L;
+      lsb = VARIANT_RFC4122 | nodeBits | (random.nextLong() & RANDOM_48);
+    }
+    return new UUID(msb, lsb);
+  }
+
+  private static SecureRandom newDrbg() {
+    try {
+      return SecureRandom.getInstance("DRBG");
+    } catch (NoSuchAlgorithmException e) {
+      return new SecureRandom();
+    }
+  }
+}
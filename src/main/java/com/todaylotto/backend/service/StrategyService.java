@@ -2,21 +2,20 @@ package com.todaylotto.backend.service;
 
 
 import com.todaylotto.backend.api.dto.StrategyCardDto;
-import com.todaylotto.backend.domain.Axis;
+import com.todaylotto.backend.content.ContentSnapshot;
+import com.todaylotto.backend.content.PoolEntry;
+import com.todaylotto.backend.content.ContentTables.RuleMapRow;
+import com.todaylotto.backend.content.ContentTables.StrategyCardRow;
+import com.todaylotto.backend.content.ContentTables.StrategySlotRow;
+import com.todaylotto.backend.domain.AxisVector;
 import com.todaylotto.backend.domain.ScoreBand;
-import com.todaylotto.backend.domain.StrategyCardPool;
 import com.todaylotto.backend.domain.StrategyCardType;
-import com.todaylotto.backend.domain.StrategyRuleMap;
-import com.todaylotto.backend.domain.StrategySlotPool;
 import com.todaylotto.backend.domain.Tone;
-import com.todaylotto.backend.repo.StrategyCardPoolRepository;
-import com.todaylotto.backend.repo.StrategyRuleMapRepository;
-import com.todaylotto.backend.repo.StrategySlotPoolRepository;
+import com.todaylotto.backend.util.CompiledTemplate;
 import com.todaylotto.backend.util.ConditionContext;
-import com.todaylotto.backend.util.ConditionEvaluator;
 import com.todaylotto.backend.util.SeededRng;
+import com.todaylotto.backend.util.TagSet;
 import com.todaylotto.backend.util.TagUtils;
-import com.todaylotto.backend.util.TemplateRenderer;
 import com.todaylotto.backend.util.WeightedPicker;
 import org.springframework.stereotype.Service;
 
@@ -25,36 +24,26 @@ import java.util.*;
 @Service
 public class StrategyService {
 
-  private final StrategyCardPoolRepository cardRepo;
-  private final StrategySlotPoolRepository slotRepo;
-  private final StrategyRuleMapRepository ruleRepo;
-  private final ConditionEvaluator conditionEvaluator;
-
-  public StrategyService(StrategyCardPoolRepository cardRepo, StrategySlotPoolRepository slotRepo, StrategyRuleMapRepository ruleRepo, ConditionEvaluator conditionEvaluator) {
-    this.cardRepo = cardRepo;
-    this.slotRepo = slotRepo;
-    this.ruleRepo = ruleRepo;
-    this.conditionEvaluator = conditionEvaluator;
-  }
-
   public List<StrategyCardDto> buildDeck(
+      ContentSnapshot content,
       int score,
       Tone tone,
-      Map<Axis, Integer> axes,
-      Set<String> tags,
+      AxisVector axes,
+      TagSet tags,
       boolean warningMode,
-      SeededRng rng
+      SeededRng rng,
+      ScoreProbe probe
   ) {
     ScoreBand band = scoreBand(score, warningMode);
 
-    List<StrategyRuleMap> rules = ruleRepo.findByScoreBand(band);
-    if (rules == null || rules.isEmpty()) throw new IllegalStateException("No strategy_rule_map for band=" + band);
+    List<RuleMapRow> rules = content.ruleMaps(band);
+    if (rules.isEmpty()) throw new IllegalStateException("No strategy_rule_map for band=" + band);
 
-    StrategyRuleMap rule = rng.pickOne(rules);
+    RuleMapRow rule = rng.pickOne(rules);
 
-    List<StrategyCardType> mandatory = parseTypes(rule.getMandatoryTypes());
-    List<StrategyCardType> optional = parseTypes(rule.getOptionalTypes());
-    int maxCards = Math.max(2, Math.min(4, rule.getMaxCards()));
+    List<StrategyCardType> mandatory = parseTypes(rule.mandatoryTypes());
+    List<StrategyCardType> optional = parseTypes(rule.optionalTypes());
+    int maxCards = Math.max(2, Math.min(4, rule.maxCards()));
 
     ConditionContext ctx = new ConditionContext(score, axes, tags);
 
@@ -64,19 +53,19 @@ public class StrategyService {
     Set<String> usedTagKeys = new HashSet<>();
 
     for (StrategyCardType t : mandatory) {
-      StrategyCardPool c = pickCard(t, score, tone, tags, ctx, usedIds, usedTypes, usedTagKeys, rng);
+      PoolEntry<StrategyCardRow> c = pickCard(content, t, score, tone, tags, ctx, usedIds, usedTypes, usedTagKeys, rng, probe);
       if (c != null) {
-        picked.add(renderCard(c, tone, rng));
-        usedIds.add(c.getId());
+        picked.add(renderCard(content, c, tone, rng));
+        usedIds.add(c.row().id());
         usedTypes.add(t.name());
       }
     }
 
     if (warningMode && picked.stream().noneMatch(c -> c.cardType().equals(StrategyCardType.BUY_INTENSITY.name()))) {
-      StrategyCardPool forced = pickCard(StrategyCardType.BUY_INTENSITY, score, tone, tags, ctx, usedIds, usedTypes, usedTagKeys, rng);
+      PoolEntry<StrategyCardRow> forced = pickCard(content, StrategyCardType.BUY_INTENSITY, score, tone, tags, ctx, usedIds, usedTypes, usedTagKeys, rng, probe);
       if (forced != null) {
-        picked.add(0, renderCard(forced, tone, rng));
-        usedIds.add(forced.getId());
+        picked.add(0, renderCard(content, forced, tone, rng));
+        usedIds.add(forced.row().id());
         usedTypes.add(StrategyCardType.BUY_INTENSITY.name());
       }
     }
@@ -88,22 +77,22 @@ public class StrategyService {
         optional.remove(t);
         continue;
       }
-      StrategyCardPool c = pickCard(t, score, tone, tags, ctx, usedIds, usedTypes, usedTagKeys, rng);
+      PoolEntry<StrategyCardRow> c = pickCard(content, t, score, tone, tags, ctx, usedIds, usedTypes, usedTagKeys, rng, probe);
       if (c == null) {
         optional.remove(t);
         continue;
       }
-      picked.add(renderCard(c, tone, rng));
-      usedIds.add(c.getId());
+      picked.add(renderCard(content, c, tone, rng));
+      usedIds.add(c.row().id());
       usedTypes.add(t.name());
     }
 
     if (picked.size() > 4) picked = picked.subList(0, 4);
     if (picked.size() < 2) {
-      StrategyCardPool a = pickCard(StrategyCardType.SAFETY, score, tone, tags, ctx, usedIds, usedTypes, usedTagKeys, rng);
-      StrategyCardPool b = pickCard(StrategyCardType.RULE, score, tone, tags, ctx, usedIds, usedTypes, usedTagKeys, rng);
-      if (a != null) picked.add(renderCard(a, tone, rng));
-      if (b != null) picked.add(renderCard(b, tone, rng));
+      PoolEntry<StrategyCardRow> a = pickCard(content, StrategyCardType.SAFETY, score, tone, tags, ctx, usedIds, usedTypes, usedTagKeys, rng, probe);
+      PoolEntry<StrategyCardRow> b = pickCard(content, StrategyCardType.RULE, score, tone, tags, ctx, usedIds, usedTypes, usedTagKeys, rng, probe);
+      if (a != null) picked.add(renderCard(content, a, tone, rng));
+      if (b != null) picked.add(renderCard(content, b, tone, rng));
     }
     return picked;
   }
@@ -125,71 +114,70 @@ public class StrategyService {
     return out;
   }
 
-  private StrategyCardPool pickCard(
+  private PoolEntry<StrategyCardRow> pickCard(
+      ContentSnapshot content,
       StrategyCardType type,
       int score,
       Tone tone,
-      Set<String> tags,
+      TagSet tags,
       ConditionContext ctx,
       Set<Long> usedIds,
       Set<String> usedTypes,
       Set<String> usedTagKeys,
-      SeededRng rng
+      SeededRng rng,
+      ScoreProbe probe
   ) {
-    List<Tone> tones = List.of(tone, Tone.ANY);
-    List<StrategyCardPool> raw = cardRepo.findByCardTypeAndMinScoreLessThanEqualAndMaxScoreGreaterThanEqualAndToneIn(type, score, score, tones);
-
-    List<StrategyCardPool> candidates = new ArrayList<>();
-    for (StrategyCardPool c : raw) {
-      if (usedIds.contains(c.getId())) continue;
-      if (!TagUtils.containsAll(tags, c.getRequiredTags())) continue;
-      if (TagUtils.containsAny(tags, c.getBlockedTags())) continue;
-      if (!conditionEvaluator.matches(c.getConditionsJson(), ctx)) continue;
-      candidates.add(c);
+    // index lists are already in priority order
+    List<PoolEntry<StrategyCardRow>> indexed = content.strategyCards(type, tone, score);
+    List<PoolEntry<StrategyCardRow>> candidates = new ArrayList<>();
+    for (PoolEntry<StrategyCardRow> e : indexed) {
+      if (usedIds.contains(e.row().id())) continue;
+      if (!tags.containsAll(e.required())) continue;
+      if (tags.containsAny(e.blocked())) continue;
+      if (!e.condition().test(ctx)) continue;
+      candidates.add(e);
     }
+    probe.candidates(ScoreProbe.Pool.STRATEGY, indexed.size(), candidates.size());
     if (candidates.isEmpty()) return null;
-
-    candidates.sort(Comparator.comparing(StrategyCardPool::getPriority).reversed());
     int window = Math.min(120, candidates.size());
 
-    StrategyCardPool chosen = WeightedPicker.pickWeighted(
+    PoolEntry<StrategyCardRow> chosen = WeightedPicker.pickWeighted(
         candidates.subList(0, window),
-        c -> Math.max(1, c.getWeight() + c.getPriority()),
+        e -> Math.max(1, e.row().weight() + e.row().priority()),
         rng
     );
 
-    if (chosen != null && chosen.getTags() != null) {
-      String key = type.name() + "|" + chosen.getTags();
+    if (chosen != null && chosen.row().tags() != null) {
+      String key = type.name() + "|" + chosen.row().tags();
       if (usedTagKeys.contains(key)) return null;
       usedTagKeys.add(key);
     }
     return chosen;
   }
 
-  private StrategyCardDto renderCard(StrategyCardPool card, Tone tone, SeededRng rng) {
-    Map<String, String> slots = new HashMap<>();
-    String merged = card.getTitleTemplate() + "\n" + card.getBodyTemplate() + "\n" + card.getFooterTemplate();
-    Set<String> keys = TemplateRenderer.extractSlots(merged);
-    for (String k : keys) slots.put(k, pickSlot(k, tone, rng));
+  private StrategyCardDto renderCard(ContentSnapshot content, PoolEntry<StrategyCardRow> entry, Tone tone, SeededRng rng) {
+    StrategyCardRow card = entry.row();
+
+    // title/body/footer share one slot namespace: each slot is drawn once, in template slot order
+    CompiledTemplate template = entry.template();
+    String[] values = new String[template.slotCount()];
+    for (int i = 0; i < values.length; i++) values[i] = pickSlot(content, template.slotRef(i), tone, rng);
 
-    String title = TemplateRenderer.render(card.getTitleTemplate(), slots);
-    String body = TemplateRenderer.render(card.getBodyTemplate(), slots);
-    String footer = TemplateRenderer.render(card.getFooterTemplate(), slots);
+    String title = template.render(0, values);
+    String body = template.render(1, values);
+    String footer = template.render(2, values);
 
     return new StrategyCardDto(
-        card.getCardType().name(),
+        card.cardType().name(),
         title,
         body,
         footer,
-        new ArrayList<>(TagUtils.parseCsv(card.getTags()))
+        new ArrayList<>(TagUtils.parseCsv(card.tags()))
     );
   }
 
-  private String pickSlot(String slotKey, Tone tone, SeededRng rng) {
-    List<Tone> tones = List.of(tone, Tone.ANY);
-    List<StrategySlotPool> options = slotRepo.findBySlotKeyAndToneIn(slotKey, tones);
-    if (options == null || options.isEmpty()) return "";
-    StrategySlotPool chosen = WeightedPicker.pickWeighted(options, o -> Math.max(1, o.getWeight()), rng);
-    return chosen == null ? "" : chosen.getText();
+  private String pickSlot(ContentSnapshot content, int slotId, Tone tone, SeededRng rng) {
+    StrategySlotRow chosen = content.strategySlots().pick(slotId, tone, rng);
+    return chosen == null ? "" : chosen.text();
   }
 }
@@ -0,0 +1,41 @@
+package com.todaylotto.backend.util;
+
+public enum CompareOp {
+  GT(">") {
+    @Override public boolean test(int actual, int expected) { return actual > expected; }
+  },
+  GE(">=") {
+    @Override public boolean test(int actual, int expected) { return actual >= expected; }
+  },
+  LT("<") {
+    @Override public boolean test(int actual, int expected) { return actual < expected; }
+  },
+  LE("<=") {
+    @Override public boolean test(int actual, int expected) { return actual <= expected; }
+  },
+  EQ("==") {
+    @Override public boolean test(int actual, int expected) { return actual == expected; }
+  },
+  NE("!=") {
+    @Override public boolean test(int actual, int expected) { return actual != expected; }
+  };
+
+  private final String symbol;
+
+  CompareOp(String symbol) {
+    this.symbol = symbol;
+  }
+
+  public abstract boolean test(int actual, int expected);
+
+  public String symbol() {
+    return symbol;
+  }
+
+  public static CompareOp fromSymbol(String symbol) {
+    for (CompareOp op : values()) {
+      if (op.symbol.equals(symbol)) return op;
+    }
+    throw new IllegalArgumentException("Unknown comparison op: " + symbol);
+  }
+}
@@ -0,0 +1,130 @@
+package com.todaylotto.backend.util;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.ToIntFunction;
+
+/**
+ * One or more templates that share a slot namespace, pre-split into literal/slot segments at load time.
+ * - Slot syntax and output are the same as {@link TemplateRenderer}: {KEY} with KEY in [A-Z0-9_]+
+ * - Slots get local ids 0..slotCount-1 in the iteration order of {@link TemplateRenderer#extractSlots},
+ *   so filling them in id order draws from the rng exactly like the regex path did
+ * - Each slot also carries an id resolved against the caller's slot pools (-1 when the key is unknown)
+ */
+public final class CompiledTemplate {
+  public static final CompiledTemplate EMPTY =
+      new CompiledTemplate(new String[0], new int[0], new String[0][], new int[0][], new int[0]);
+
+  private final String[] slotKeys;
+  private final int[] slotRefs;
+  // per part: literals[p].length == refs[p].length + 1, null for a null template
+  private final String[][] literals;
+  private final int[][] refs;
+  private final int[] literalLength;
+
+  private CompiledTemplate(String[] slotKeys, int[] slotRefs, String[][] literals, int[][] refs, int[] literalLength) {
+    this.slotKeys = slotKeys;
+    this.slotRefs = slotRefs;
+    this.literals = literals;
+    this.refs = refs;
+    this.literalLength = literalLength;
+  }
+
+  public static CompiledTemplate compile(ToIntFunction<String> resolver, String... parts) {
+    int n = parts.length;
+    List<List<String>> partLiterals = new ArrayList<>(n);
+    List<List<String>> partKeys = new ArrayList<>(n);
+    Set<String> slotSet = new HashSet<>();
+
+    for (String template : parts) {
+      if (template == null) {
+        partLiterals.add(null);
+        partKeys.add(null);
+        continue;
+      }
+      List<String> lits = new ArrayList<>();
+      List<String> keys = new ArrayList<>();
+      int literalStart = 0;
+      int i = 0;
+      while (i < template.length()) {
+        if (template.charAt(i) != '{') {
+          i++;
+          continue;
+        }
+        int j = i + 1;
+        while (j < template.length() && isSlotChar(template.charAt(j))) j++;
+        if (j == i + 1 || j == template.length() || template.charAt(j) != '}') {
+          i++;
+          continue;
+        }
+        lits.add(template.substring(literalStart, i));
+        String key = template.substring(i + 1, j);
+        keys.add(key);
+        slotSet.add(key);
+        literalStart = j + 1;
+        i = j + 1;
+      }
+      lits.add(template.substring(literalStart));
+      partLiterals.add(lits);
+      partKeys.add(keys);
+    }
+
+    // same HashSet, same insertion order => same iteration order as extractSlots on the joined parts
+    Map<String, Integer> localIds = new LinkedHashMap<>();
+    for (String key : slotSet) localIds.put(key, localIds.size());
+
+    String[] slotKeys = localIds.keySet().toArray(new String[0]);
+    int[] slotRefs = new int[slotKeys.length];
+    for (int s = 0; s < slotKeys.length; s++) slotRefs[s] = resolver.applyAsInt(slotKeys[s]);
+
+    String[][] literals = new String[n][];
+    int[][] refs = new int[n][];
+    int[] literalLength = new int[n];
+    for (int p = 0; p < n; p++) {
+      if (partLiterals.get(p) == null) continue;
+      literals[p] = partLiterals.get(p).toArray(new String[0]);
+      refs[p] = partKeys.get(p).stream().mapToInt(localIds::get).toArray();
+      for (String lit : literals[p]) literalLength[p] += lit.length();
+    }
+    return new CompiledTemplate(slotKeys, slotRefs, literals, refs, literalLength);
+  }
+
+  public int slotCount() {
+    return slotKeys.length;
+  }
+
+  public String slotKey(int slot) {
+    return slotKeys[slot];
+  }
+
+  /** Id the resolver gave this slot's key at compile time, -1 if it did not know the key. */
+  public int slotRef(int slot) {
+    return slotRefs[slot];
+  }
+
+  /** Renders part p with values indexed by local slot id; a null template renders as "". */
+  public String render(int part, String[] values) {
+    String[] lits = literals[part];
+    if (lits == null) return "";
+    int[] r = refs[part];
+    if (r.length == 0) return lits[0];
+
+    int length = literalLength[part];
+    for (int slot : r) length += values[slot].length();
+
+    StringBuilder sb = new StringBuilder(length);
+    for (int k = 0; k < r.length; k++) {
+      sb.append(lits[k]).append(values[r[k]]);
+    }
+    sb.append(lits[r.length]);
+    return sb.toString();
+  }
+
+  private static boolean isSlotChar(char c) {
+    return (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+  }
+}
@@ -0,0 +1,59 @@
+package com.todaylotto.backend.util;
+
+import com.todaylotto.backend.domain.Axis;
+
+/**
+ * Compiled form of a conditions_json document (see {@link ConditionCompiler}).
+ * Immutable and thread-safe; evaluation does no parsing and no allocation.
+ */
+public sealed interface Condition {
+
+  Condition ALWAYS = new Always();
+
+  boolean test(ConditionContext ctx);
+
+  record Always() implements Condition {
+    @Override
+    public boolean test(ConditionContext ctx) {
+      return true;
+    }
+  }
+
+  record All(Condition[] terms) implements Condition {
+    @Override
+    public boolean test(ConditionContext ctx) {
+      for (Condition c : terms) if (!c.test(ctx)) return false;
+      return true;
+    }
+  }
+
+  record AnyOf(Condition[] terms) implements Condition {
+    @Override
+    public boolean test(ConditionContext ctx) {
+      for (Condition c : terms) if (c.test(ctx)) return true;
+      return false;
+    }
+  }
+
+  record AxisCompare(Axis axis, CompareOp op, int value) implements Condition {
+    @Override
+    public boolean test(ConditionContext ctx) {
+      return op.test(ctx.axes().get(axis), value);
+    }
+  }
+
+  record ScoreCompare(CompareOp op, int value) implements Condition {
+    @Override
+    public boolean test(ConditionContext ctx) {
+      return op.test(ctx.score(), value);
+    }
+  }
+
+  /** tagId is the {@link TagDictionary} id, or -1 for a tag no request can carry. */
+  record TagCheck(String tag, int tagId, boolean present) implements Condition {
+    @Override
+    public boolean test(ConditionContext ctx) {
+      return ctx.tags().contains(tagId) == present;
+    }
+  }
+}
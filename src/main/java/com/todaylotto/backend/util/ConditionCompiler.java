@@ -0,0 +1,108 @@
+package com.todaylotto.backend.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.todaylotto.backend.domain.Axis;
+
+/**
+ * Compiles conditions_json documents into {@link Condition} trees at content load time.
+ * - Grammar: {"all": [...]}, {"any": [...]}, {"type": "axis"|"score"|"tag", ...}
+ * - Semantics match {@link ConditionEvaluator} for well-formed documents
+ * - Malformed documents throw IllegalArgumentException instead of failing open per request
+ * - Tag names are resolved to {@link TagDictionary} ids once, here
+ */
+public final class ConditionCompiler {
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  private ConditionCompiler() {}
+
+  public static Condition compile(String conditionsJson, TagDictionary tags) {
+    if (conditionsJson == null || conditionsJson.isBlank()) return Condition.ALWAYS;
+    String trimmed = conditionsJson.trim();
+    if (trimmed.equals("{}")) return Condition.ALWAYS;
+
+    JsonNode root;
+    try {
+      root = MAPPER.readTree(trimmed);
+    } catch (Exception e) {
+      throw new IllegalArgumentException("conditions_json is not valid JSON: " + e.getMessage(), e);
+    }
+    if (root == null || !root.isObject()) throw new IllegalArgumentException("conditions_json must be an object");
+    return compileNode(root, tags);
+  }
+
+  private static Condition compileNode(JsonNode node, TagDictionary tags) {
+    if (node.isEmpty()) return Condition.ALWAYS;
+
+    if (node.has("all")) {
+      Condition[] terms = compileList(node.get("all"), "all", tags);
+      if (terms.length == 0) return Condition.ALWAYS;
+      return terms.length == 1 ? terms[0] : new Condition.All(terms);
+    }
+    if (node.has("any")) {
+      Condition[] terms = compileList(node.get("any"), "any", tags);
+      if (terms.length == 0) return Condition.ALWAYS;
+      return terms.length == 1 ? terms[0] : new Condition.AnyOf(terms);
+    }
+
+    String type = requireText(node, "type");
+    return switch (type) {
+      case "axis" -> compileAxis(node);
+      case "score" -> new Condition.ScoreCompare(CompareOp.fromSymbol(requireText(node, "op")), requireInt(node, "value"));
+      case "tag" -> compileTag(node, tags);
+      default -> throw new IllegalArgumentException("Unknown condition type: " + type);
+    };
+  }
+
+  private static Condition[] compileList(JsonNode list, String key, TagDictionary tags) {
+    if (list == null || !list.isArray()) throw new IllegalArgumentException("'" + key + "' must be an array");
+    Condition[] terms = new Condition[list.size()];
+    int i = 0;
+    for (JsonNode child : list) {
+      if (!child.isObject()) throw new IllegalArgumentException("'" + key + "' entries must be objects");
+      terms[i++] = compileNode(child, tags);
+    }
+    return terms;
+  }
+
+  private static Condition compileAxis(JsonNode node) {
+    String axisName = requireText(node, "axis");
+    Axis axis;
+    try {
+      axis = Axis.valueOf(axisName);
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("Unknown axis: " + axisName);
+    }
+    return new Condition.AxisCompare(axis, CompareOp.fromSymbol(requireText(node, "op")), requireInt(node, "value"));
+  }
+
+  private static Condition compileTag(JsonNode node, TagDictionary tags) {
+    String op = requireText(node, "op");
+    String tag = requireText(node, "value");
+    int id = tags.id(tag);
+    return switch (op) {
+      case "has" -> new Condition.TagCheck(tag, id, true);
+      case "not" -> new Condition.TagCheck(tag, id, false);
+      default -> throw new IllegalArgumentException("Unknown tag op: " + op);
+    };
+  }
+
+  private static String requireText(JsonNode node, String field) {
+    JsonNode v = node.get(field);
+    if (v == null || v.isNull() || !v.isValueNode()) {
+      throw new IllegalArgumentException("Missing or non-scalar '" + field + "' in " + node);
+    }
+    return v.asText();
+  }
+
+  private static int requireInt(JsonNode node, String field) {
+    JsonNode v = node.get(field);
+    if (v != null && v.isNumber()) return v.intValue();
+    String text = requireText(node, field);
+    try {
+      return Integer.parseInt(text);
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("'" + field + "' must be an integer in " + node);
+    }
+  }
+}
@@ -1,8 +1,6 @@
 package com.todaylotto.backend.util;
 
 
-import com.todaylotto.backend.domain.Axis;
-import java.util.Map;
-import java.util.Set;
+import com.todaylotto.backend.domain.AxisVector;
 
-public record ConditionContext(int score, Map<Axis, Integer> axes, Set<String> tags) {}
+public record ConditionContext(int score, AxisVector axes, TagSet tags) {}
@@ -8,6 +8,10 @@ import org.springframework.stereotype.Component;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * Interprets conditions_json on every call.
+ * Request paths use {@link ConditionCompiler}; this stays as the reference implementation for parity checks.
+ */
 @Component
 public class ConditionEvaluator {
   private final ObjectMapper objectMapper;
@@ -74,7 +78,7 @@ public class ConditionEvaluator {
     } catch (Exception e) {
       return true;
     }
-    int actual = ctx.axes().getOrDefault(axis, 50);
+    int actual = ctx.axes().get(axis);
     return compare(actual, op, value);
   }
 
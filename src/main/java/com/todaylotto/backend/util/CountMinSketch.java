@@ -0,0 +1,73 @@
+package com.todaylotto.backend.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Count-min sketch over string keys: fixed memory, estimates never below the true count.
+ * - add() is a few atomic increments with no allocation; String.hashCode() is cached by the string
+ * - Row indexes come from one 64-bit mix of the hash (double hashing), so there is no per-row hashing
+ * - snapshot()/minus() turn a cumulative sketch into per-window counts without stopping writers
+ */
+public final class CountMinSketch {
+  private final int depth;
+  private final int mask;
+  private final AtomicLongArray counts;
+
+  /** width is rounded up to a power of two. */
+  public CountMinSketch(int depth, int width) {
+    if (depth <= 0 || width <= 0) throw new IllegalArgumentException("depth and width must be positive");
+    int w = Integer.highestOneBit(Math.max(1, width - 1)) << 1;
+    this.depth = depth;
+    this.mask = w - 1;
+    this.counts = new AtomicLongArray(depth * w);
+  }
+
+  private CountMinSketch(int depth, int mask, long[] values) {
+    this.depth = depth;
+    this.mask = mask;
+    this.counts = new AtomicLongArray(values);
+  }
+
+  public void add(String key) {
+    long h = mix(key.hashCode());
+    int h1 = (int) h;
+    int h2 = (int) (h >>> 32) | 1;
+    int width = mask + 1;
+    for (int row = 0; row < depth; row++) counts.getAndIncrement(row * width + ((h1 + row * h2) & mask));
+  }
+
+  public long estimate(String key) {
+    long h = mix(key.hashCode());
+    int h1 = (int) h;
+    int h2 = (int) (h >>> 32) | 1;
+    int width = mask + 1;
+    long min = Long.MAX_VALUE;
+    for (int row = 0; row < depth; row++) min = Math.min(min, counts.get(row * width + ((h1 + row * h2) & mask)));
+    return min;
+  }
+
+  /** Copy of the current counters; concurrent adds land either in it or after it. */
+  public CountMinSketch snapshot() {
+    long[] values = new long[counts.length()];
+    for (int i = 0; i < values.length; i++) values[i] = counts.get(i);
+    return new CountMinSketch(depth, mask, values);
+  }
+
+  /** Counts added since earlier, a snapshot of this same sketch. */
+  public CountMinSketch minus(CountMinSketch earlier) {
+    if (earlier.depth != depth || earlier.mask != mask) throw new IllegalArgumentException("sketch shapes differ");
+    long[] values = new long[counts.length()];
+    for (int i = 0; i < values.length; i++) values[i] = counts.get(i) - earlier.counts.get(i);
+    return new CountMinSketch(depth, mask, values);
+  }
+
+  // murmur3 fmix64 finalizer
+  private static long mix(long h) {
+    h ^= h >>> 33;
+    h *= 0xff51afd7ed558ccdL;
+    h ^= h >>> 33;
+    h *= 0xc4ceb9fe1a85ec53L;
+    h ^= h >>> 33;
+    return h;
+  }
+}
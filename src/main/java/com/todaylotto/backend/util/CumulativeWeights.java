@@ -0,0 +1,104 @@
+package com.todaylotto.backend.util;
+
+import java.util.Arrays;
+
+/**
+ * Prefix sums of a fixed weight list, for pools whose weights are known at load time.
+ * - pick() makes the same single rng draw as {@link WeightedPicker} and returns the same index,
+ *   so switching a pool over keeps every session seed's output
+ * - O(log n) per pick instead of two linear passes
+ * - sample() draws several distinct indexes without copying or shuffling the pool
+ */
+public final class CumulativeWeights {
+  public static final CumulativeWeights EMPTY = new CumulativeWeights(new long[0]);
+
+  private final long[] cumulative;
+
+  private CumulativeWeights(long[] cumulative) {
+    this.cumulative = cumulative;
+  }
+
+  /** Negative weights count as 0, like {@link WeightedPicker}. */
+  public static CumulativeWeights of(int[] weights) {
+    if (weights.length == 0) return EMPTY;
+    long[] cumulative = new long[weights.length];
+    long acc = 0;
+    for (int i = 0; i < weights.length; i++) {
+      acc += Math.max(0, weights[i]);
+      cumulative[i] = acc;
+    }
+    return new CumulativeWeights(cumulative);
+  }
+
+  public int size() {
+    return cumulative.length;
+  }
+
+  public long total() {
+    return cumulative.length == 0 ? 0 : cumulative[cumulative.length - 1];
+  }
+
+  /** Index drawn for this rng; -1 when there are no items. */
+  public int pick(SeededRng rng) {
+    int n = cumulative.length;
+    if (n == 0) return -1;
+    long total = cumulative[n - 1];
+    if (total <= 0) return rng.nextInt(n);
+
+    return indexOf(rng.nextLong(total));
+  }
+
+  /**
+   * Weighted sample without replacement: up to k distinct indexes in draw order.
+   * - Each draw is one rng.nextLong over the weight still in the pool, then skips the intervals of earlier picks,
+   *   which is the same draw and result as WeightedPicker over the remaining items in index order
+   * - Stops early once only zero-weight items are left
+   */
+  public int[] sample(int k, SeededRng rng) {
+    int n = Math.min(k, cumulative.length);
+    int[] drawn = new int[n];
+    int[] ascending = new int[n];
+    long remaining = total();
+    int count = 0;
+    while (count < n && remaining > 0) {
+      long r = rng.nextLong(remaining);
+      for (int j = 0; j < count; j++) {
+        int p = ascending[j];
+        if (r < start(p)) break;
+        r += weight(p);
+      }
+      int idx = indexOf(r);
+      drawn[count] = idx;
+
+      int pos = count;
+      while (pos > 0 && ascending[pos - 1] > idx) {
+        ascending[pos] = ascending[pos - 1];
+        pos--;
+      }
+      ascending[pos] = idx;
+      remaining -= weight(idx);
+      count++;
+    }
+    return count == n ? drawn : Arrays.copyOf(drawn, count);
+  }
+
+  public long weight(int i) {
+    return cumulative[i] - start(i);
+  }
+
+  private long start(int i) {
+    return i == 0 ? 0 : cumulative[i - 1];
+  }
+
+  // first index whose prefix sum exceeds r, which is where the linear scan stops
+  private int indexOf(long r) {
+    int lo = 0;
+    int hi = cumulative.length - 1;
+    while (lo < hi) {
+      int mid = (lo + hi) >>> 1;
+      if (cumulative[mid] > r) hi = mid;
+      else lo = mid + 1;
+    }
+    return lo;
+  }
+}
@@ -0,0 +1,144 @@
+package com.todaylotto.backend.util;
+
+import java.util.*;
+
+/**
+ * Aho–Corasick automaton over a fixed list of patterns.
+ * - Built once; immutable and thread-safe afterwards
+ * - find() reports every pattern occurring in the text with one linear scan, independent of dictionary size
+ * - Blank patterns never match
+ */
+public final class KeywordAutomaton {
+  private static final int ROOT = 0;
+
+  // per node: sorted transition chars and their targets
+  private final char[][] keys;
+  private final int[][] targets;
+  private final int[] fail;
+  // patterns ending exactly at a node, and the nearest suffix node that ends a pattern (-1 if none)
+  private final int[][] outputs;
+  private final int[] outputLink;
+  private final int patternCount;
+
+  private KeywordAutomaton(char[][] keys, int[][] targets, int[] fail, int[][] outputs, int[] outputLink, int patternCount) {
+    this.keys = keys;
+    this.targets = targets;
+    this.fail = fail;
+    this.outputs = outputs;
+    this.outputLink = outputLink;
+    this.patternCount = patternCount;
+  }
+
+  public static KeywordAutomaton build(List<String> patterns) {
+    List<Map<Character, Integer>> children = new ArrayList<>();
+    List<List<Integer>> ends = new ArrayList<>();
+    children.add(new HashMap<>());
+    ends.add(new ArrayList<>());
+
+    for (int p = 0; p < patterns.size(); p++) {
+      String pattern = patterns.get(p);
+      if (pattern == null || pattern.isBlank()) continue;
+      int node = ROOT;
+      for (int i = 0; i < pattern.length(); i++) {
+        Integer next = children.get(node).get(pattern.charAt(i));
+        if (next == null) {
+          next = children.size();
+          children.add(new HashMap<>());
+          ends.add(new ArrayList<>());
+          children.get(node).put(pattern.charAt(i), next);
+        }
+        node = next;
+      }
+      ends.get(node).add(p);
+    }
+
+    int size = children.size();
+    char[][] keys = new char[size][];
+    int[][] targets = new int[size][];
+    int[][] outputs = new int[size][];
+    for (int n = 0; n < size; n++) {
+      List<Character> cs = new ArrayList<>(children.get(n).keySet());
+      Collections.sort(cs);
+      keys[n] = new char[cs.size()];
+      targets[n] = new int[cs.size()];
+      for (int i = 0; i < cs.size(); i++) {
+        keys[n][i] = cs.get(i);
+        targets[n][i] = children.get(n).get(cs.get(i));
+      }
+      outputs[n] = ends.get(n).stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    int[] fail = new int[size];
+    int[] outputLink = new int[size];
+    Arrays.fill(outputLink, -1);
+
+    // BFS: a node's fail target is always shallower, so it is final before the node is visited
+    ArrayDeque<Integer> queue = new ArrayDeque<>();
+    for (int child : targets[ROOT]) {
+      fail[child] = ROOT;
+      queue.add(child);
+    }
+    while (!queue.isEmpty()) {
+      int node = queue.poll();
+      for (int i = 0; i < keys[node].length; i++) {
+        char c = keys[node][i];
+        int child = targets[node][i];
+
+        int f = fail[node];
+        int next = step(keys, targets, f, c);
+        while (next < 0 && f != ROOT) {
+          f = fail[f];
+          next = step(keys, targets, f, c);
+        }
+        fail[child] = next < 0 ? ROOT : next;
+
+        int link = fail[child];
+        outputLink[child] = outputs[link].length > 0 ? link : outputLink[link];
+        queue.add(child);
+      }
+    }
+
+    return new KeywordAutomaton(keys, targets, fail, outputs, outputLink, patterns.size());
+  }
+
+  public int patternCount() {
+    return patternCount;
+  }
+
+  /** Indexes of all patterns occurring in text, ascending and without duplicates. */
+  public int[] find(CharSequence text) {
+    boolean[] found = new boolean[patternCount];
+    int count = 0;
+    int node = ROOT;
+
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      int next = step(keys, targets, node, c);
+      while (next < 0 && node != ROOT) {
+        node = fail[node];
+        next = step(keys, targets, node, c);
+      }
+      node = next < 0 ? ROOT : next;
+
+      for (int out = outputs[node].length > 0 ? node : outputLink[node]; out >= 0; out = outputLink[out]) {
+        for (int p : outputs[out]) {
+          if (!found[p]) {
+            found[p] = true;
+            count++;
+          }
+        }
+      }
+    }
+
+    int[] hits = new int[count];
+    for (int p = 0, k = 0; k < count; p++) {
+      if (found[p]) hits[k++] = p;
+    }
+    return hits;
+  }
+
+  private static int step(char[][] keys, int[][] targets, int node, char c) {
+    int i = Arrays.binarySearch(keys[node], c);
+    return i < 0 ? -1 : targets[node][i];
+  }
+}
@@ -8,8 +8,11 @@ import java.util.UUID;
  * Deterministic RNG derived from sessionSeed (UUID).
  * - A request is consistent within the same sessionSeed
  * - Every new sessionSeed produces different selection/phrasing
+ * - fork(stageKey) derives an independent stream per stage from the seed alone, so a stage's draws
+ *   do not depend on how many draws other stages made
  */
 public class SeededRng {
+  private final long seed;
   private final SplittableRandom random;
 
   public SeededRng(String sessionSeed) {
@@ -20,9 +23,32 @@ public class SeededRng {
     } catch (IllegalArgumentException e) {
       seed = sessionSeed.hashCode();
     }
+    this.seed = seed;
     this.random = new SplittableRandom(seed);
   }
 
+  private SeededRng(long seed) {
+    this.seed = seed;
+    this.random = new SplittableRandom(seed);
+  }
+
+  /** Stream for one stage, keyed by name; the same seed and key always give the same stream. */
+  public SeededRng fork(String stageKey) {
+    long h = 0xcbf29ce484222325L;
+    for (int i = 0; i < stageKey.length(); i++) {
+      h ^= stageKey.charAt(i);
+      h *= 0x100000001b3L;
+    }
+    return new SeededRng(mix64(seed ^ mix64(h)));
+  }
+
+  // murmur3 fmix64
+  private static long mix64(long z) {
+    z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+    z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+    return z ^ (z >>> 33);
+  }
+
   public int nextInt(int boundExclusive) {
     return random.nextInt(boundExclusive);
   }
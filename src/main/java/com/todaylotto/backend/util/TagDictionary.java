@@ -0,0 +1,65 @@
+package com.todaylotto.backend.util;
+
+import java.util.*;
+
+/**
+ * Dense integer ids for every known tag.
+ * - Ids follow the natural order of the tag names, so iterating a {@link TagSet} by id yields sorted names
+ * - Unknown names resolve to -1, which no {@link TagSet} ever contains
+ */
+public final class TagDictionary {
+  private static final long[] EMPTY_MASK = new long[0];
+
+  private final String[] names;
+  private final Map<String, Integer> ids;
+
+  private TagDictionary(String[] names) {
+    this.names = names;
+    Map<String, Integer> ids = new HashMap<>(names.length * 2);
+    for (int i = 0; i < names.length; i++) ids.put(names[i], i);
+    this.ids = ids;
+  }
+
+  public static TagDictionary of(Collection<String> tags) {
+    TreeSet<String> sorted = new TreeSet<>();
+    for (String t : tags) {
+      if (t != null && !t.isBlank()) sorted.add(t.trim());
+    }
+    return new TagDictionary(sorted.toArray(new String[0]));
+  }
+
+  public int size() {
+    return names.length;
+  }
+
+  int wordCount() {
+    return (names.length + 63) >>> 6;
+  }
+
+  public int id(String tag) {
+    if (tag == null) return -1;
+    Integer id = ids.get(tag.trim());
+    return id == null ? -1 : id;
+  }
+
+  public String name(int id) {
+    return names[id];
+  }
+
+  public TagSet newSet() {
+    return new TagSet(this);
+  }
+
+  /** Bitmask of a comma separated tag list; names missing from the dictionary are rejected. */
+  public long[] mask(String csv) {
+    Set<String> tags = TagUtils.parseCsv(csv);
+    if (tags.isEmpty()) return EMPTY_MASK;
+    long[] mask = new long[wordCount()];
+    for (String t : tags) {
+      int id = id(t);
+      if (id < 0) throw new IllegalArgumentException("Tag is not in the dictionary: " + t);
+      mask[id >>> 6] |= 1L << id;
+    }
+    return mask;
+  }
+}
@@ -0,0 +1,78 @@
+package com.todaylotto.backend.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Per-request tag set backed by a long[] bitset over {@link TagDictionary} ids.
+ * Not thread-safe; fill it on one thread, then share it read-only.
+ */
+public final class TagSet {
+  private final TagDictionary dictionary;
+  private final long[] words;
+
+  TagSet(TagDictionary dictionary) {
+    this.dictionary = dictionary;
+    this.words = new long[dictionary.wordCount()];
+  }
+
+  public TagDictionary dictionary() {
+    return dictionary;
+  }
+
+  public void add(int id) {
+    if (id >= 0) words[id >>> 6] |= 1L << id;
+  }
+
+  /** Adds a tag by name; blank names are ignored, names outside the dictionary are a programming error. */
+  public void add(String tag) {
+    if (tag == null || tag.isBlank()) return;
+    int id = dictionary.id(tag);
+    if (id < 0) throw new IllegalArgumentException("Tag is not in the dictionary: " + tag);
+    add(id);
+  }
+
+  public void addAll(TagSet other) {
+    for (int i = 0; i < words.length; i++) words[i] |= other.words[i];
+  }
+
+  public boolean contains(int id) {
+    return id >= 0 && (words[id >>> 6] & (1L << id)) != 0;
+  }
+
+  public boolean contains(String tag) {
+    return contains(dictionary.id(tag));
+  }
+
+  public boolean containsAll(long[] mask) {
+    for (int i = 0; i < mask.length; i++) {
+      if ((words[i] & mask[i]) != mask[i]) return false;
+    }
+    return true;
+  }
+
+  public boolean containsAny(long[] mask) {
+    for (int i = 0; i < mask.length; i++) {
+      if ((words[i] & mask[i]) != 0) return true;
+    }
+    return false;
+  }
+
+  public boolean isEmpty() {
+    for (long w : words) if (w != 0) return false;
+    return true;
+  }
+
+  /** Tag names in natural order. */
+  public List<String> names() {
+    List<String> out = new ArrayList<>();
+    for (int i = 0; i < words.length; i++) {
+      long w = words[i];
+      while (w != 0) {
+        out.add(dictionary.name((i << 6) + Long.numberOfTrailingZeros(w)));
+        w &= w - 1;
+      }
+    }
+    return out;
+  }
+}
@@ -17,17 +17,4 @@ public final class TagUtils {
         .forEach(out::add);
     return out;
   }
-
-  public static boolean containsAll(Set<String> tags, String requiredCsv) {
-    Set<String> required = parseCsv(requiredCsv);
-    return tags.containsAll(required);
-  }
-
-  public static boolean containsAny(Set<String> tags, String blockedCsv) {
-    Set<String> blocked = parseCsv(blockedCsv);
-    for (String b : blocked) {
-      if (tags.contains(b)) return true;
-    }
-    return false;
-  }
 }
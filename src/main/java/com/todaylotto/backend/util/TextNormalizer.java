@@ -0,0 +1,42 @@
+package com.todaylotto.backend.util;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * Normalizes free text for keyword matching.
+ * - lower-case, NFKC
+ * - keeps only [0-9a-zA-Z가-힣]; every other run of characters collapses to one space
+ * - no leading/trailing space
+ * Same result as the former replaceAll("[^0-9a-zA-Z가-힣\\s]", " ").replaceAll("\\s+", " ").trim(), in one pass.
+ */
+public final class TextNormalizer {
+  private TextNormalizer() {}
+
+  public static String normalize(String input) {
+    if (input == null) return "";
+    String s = Normalizer.normalize(input.toLowerCase(Locale.ROOT), Normalizer.Form.NFKC);
+
+    char[] out = new char[s.length()];
+    int n = 0;
+    boolean gap = false;
+    for (int i = 0; i < s.length(); i++) {
+      char c = s.charAt(i);
+      if (isKept(c)) {
+        if (gap && n > 0) out[n++] = ' ';
+        out[n++] = c;
+        gap = false;
+      } else {
+        gap = true;
+      }
+    }
+    return new String(out, 0, n);
+  }
+
+  private static boolean isKept(char c) {
+    return (c >= '0' && c <= '9')
+        || (c >= 'a' && c <= 'z')
+        || (c >= 'A' && c <= 'Z')
+        || (c >= '가' && c <= '힣');
+  }
+}
@@ -0,0 +1,3 @@
+-- V13__index_horoscope_cache_created_at.sql
+-- TTL purge deletes the oldest rows first in LIMITed chunks
+CREATE INDEX idx_horoscope_cache_created_at ON horoscope_cache(created_at);
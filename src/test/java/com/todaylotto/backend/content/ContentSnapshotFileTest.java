@@ -0,0 +1,44 @@
+package com.todaylotto.backend.content;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ContentSnapshotFileTest {
+
+  @TempDir
+  Path dir;
+
+  @Test
+  void seedContentRoundTrips() {
+    ContentTables tables = new SeedSqlContentSource().load();
+    Path file = dir.resolve("content.snapshot");
+
+    ContentSnapshotFile.write(tables, file);
+    ContentTables read = ContentSnapshotFile.read(file);
+
+    assertThat(read).isEqualTo(tables);
+    assertThat(ContentSnapshot.of(read).version()).isEqualTo(ContentSnapshot.of(tables).version());
+    assertThat(Files.exists(dir.resolve("content.snapshot.tmp"))).isFalse();
+  }
+
+  @Test
+  void corruptFileIsRejected() throws IOException {
+    Path file = dir.resolve("content.snapshot");
+    ContentSnapshotFile.write(new SeedSqlContentSource().load(), file);
+
+    byte[] bytes = Files.readAllBytes(file);
+    bytes[bytes.length / 2] ^= 0x5A;
+    Files.write(file, bytes);
+
+    assertThatThrownBy(() -> ContentSnapshotFile.read(file))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("checksum");
+  }
+}
@@ -0,0 +1,72 @@
+package com.todaylotto.backend.content;
+
+import com.todaylotto.backend.content.ContentTables.QuestionRow;
+import com.todaylotto.backend.domain.Axis;
+import com.todaylotto.backend.domain.QuestionBucket;
+import com.todaylotto.backend.util.TagDictionary;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QuestionEntryTest {
+
+  private static final BigDecimal HALF = new BigDecimal("0.5");
+
+  @Test
+  void seededQuestionsMatchBigDecimalScoring() {
+    ContentTables tables = new SeedSqlContentSource().load();
+    ContentSnapshot snapshot = ContentSnapshot.of(tables);
+    assertThat(tables.questions()).isNotEmpty();
+
+    for (QuestionRow q : tables.questions()) {
+      QuestionEntry entry = snapshot.question(q.id()).orElseThrow();
+      assertMatchesReference(entry, snapshot.tags());
+    }
+  }
+
+  @Test
+  void halfUpBoundariesMatchBigDecimalScoring() {
+    TagDictionary tags = TagDictionary.of(List.of("HIGH", "LOW"));
+    List<String> strengths = List.of("0.00", "0.10", "0.125", "0.25", "0.375", "0.50", "0.625", "0.75", "0.875",
+        "1.00", "1.125", "1.25", "1.375", "1.50", "1.625", "1.875", "2.00", "2.125", "3.00");
+
+    List<QuestionRow> rows = new ArrayList<>();
+    long id = 1;
+    for (String s : strengths) {
+      for (int polarity : new int[] {1, -1}) {
+        rows.add(new QuestionRow(id++, QuestionBucket.MIX, "q", Axis.RISK, Axis.ENERGY, new BigDecimal(s), polarity,
+            "HIGH", "LOW", 1));
+        rows.add(new QuestionRow(id++, QuestionBucket.MIX, "q", Axis.RISK, null, new BigDecimal(s), polarity,
+            null, " ", 1));
+      }
+    }
+    for (QuestionRow q : rows) assertMatchesReference(QuestionEntry.compile(q, tags), tags);
+  }
+
+  // the per-answer arithmetic ScoringService used before the tables existed
+  private static void assertMatchesReference(QuestionEntry entry, TagDictionary tags) {
+    QuestionRow q = entry.row();
+    for (int value = QuestionEntry.MIN_VALUE; value <= QuestionEntry.MAX_VALUE; value++) {
+      int deltaBase = (value - 3) * 4;
+      BigDecimal base = BigDecimal.valueOf(deltaBase).multiply(q.strength()).multiply(BigDecimal.valueOf(q.polarity()));
+      assertThat(entry.primaryDelta(value)).isEqualTo(base.setScale(0, RoundingMode.HALF_UP).intValueExact());
+
+      if (q.secondaryAxis() != null) {
+        BigDecimal sec = BigDecimal.valueOf(deltaBase)
+            .multiply(q.strength())
+            .multiply(HALF)
+            .multiply(BigDecimal.valueOf(q.polarity()));
+        assertThat(entry.secondaryDelta(value)).isEqualTo(sec.setScale(0, RoundingMode.HALF_UP).intValueExact());
+      }
+
+      String tag = value >= 4 ? q.tagOnHigh() : value <= 2 ? q.tagOnLow() : null;
+      int expectedTag = tag == null || tag.isBlank() ? -1 : tags.id(tag);
+      assertThat(entry.tagId(value)).isEqualTo(expectedTag);
+    }
+  }
+}
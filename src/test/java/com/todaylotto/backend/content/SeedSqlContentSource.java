@@ -0,0 +1,275 @@
+package com.todaylotto.backend.content;
+
+import com.todaylotto.backend.content.ContentTables.ChoiceRow;
+import com.todaylotto.backend.content.ContentTables.KeywordRow;
+import com.todaylotto.backend.content.ContentTables.KeywordRuleRow;
+import com.todaylotto.backend.content.ContentTables.LongformRow;
+import com.todaylotto.backend.content.ContentTables.MessageRow;
+import com.todaylotto.backend.content.ContentTables.PhraseRow;
+import com.todaylotto.backend.content.ContentTables.QuestionRow;
+import com.todaylotto.backend.content.ContentTables.RuleMapRow;
+import com.todaylotto.backend.content.ContentTables.StrategyCardRow;
+import com.todaylotto.backend.content.ContentTables.StrategySlotRow;
+import com.todaylotto.backend.content.ContentTables.StyleRow;
+import com.todaylotto.backend.domain.Axis;
+import com.todaylotto.backend.domain.LongformSection;
+import com.todaylotto.backend.domain.MessageCategory;
+import com.todaylotto.backend.domain.QuestionBucket;
+import com.todaylotto.backend.domain.ScoreBand;
+import com.todaylotto.backend.domain.StrategyCardType;
+import com.todaylotto.backend.domain.Tone;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Content straight from the Flyway seed scripts (classpath db/migration/V*__*.sql), no database needed.
+ * - Understands the subset the seeds use: INSERT INTO t (cols) VALUES (...), (...); with strings, numbers and NULL
+ * - Rows without an id get AUTO_INCREMENT ids in insertion order, like MySQL
+ */
+public class SeedSqlContentSource implements ContentSource {
+  private static final Pattern VERSION = Pattern.compile("V(\\d+)__");
+
+  @Override
+  public ContentTables load() {
+    Map<String, List<Map<String, Object>>> db = loadSeeds();
+
+    return new ContentTables(
+        rows(db, "question", r -> new QuestionRow(
+            lng(r, "id"), QuestionBucket.valueOf(str(r, "bucket")), str(r, "text"),
+            Axis.valueOf(str(r, "primary_axis")), axisOrNull(str(r, "secondary_axis")),
+            r.get("strength") == null ? BigDecimal.ONE : (BigDecimal) r.get("strength"),
+            r.get("polarity") == null ? 1 : num(r, "polarity"),
+            str(r, "tag_on_high"), str(r, "tag_on_low"), r.get("weight") == null ? 1 : num(r, "weight"))),
+        rows(db, "message_pool", r -> new MessageRow(
+            lng(r, "id"), MessageCategory.valueOf(str(r, "category")), Tone.valueOf(str(r, "tone")),
+            num(r, "min_score"), num(r, "max_score"), str(r, "required_tags"), str(r, "blocked_tags"),
+            str(r, "conditions_json"), str(r, "text"), num(r, "weight"), num(r, "priority"))),
+        rows(db, "longform_block", r -> new LongformRow(
+            lng(r, "id"), LongformSection.valueOf(str(r, "section")), Tone.valueOf(str(r, "tone")),
+            num(r, "min_score"), num(r, "max_score"), str(r, "required_tags"), str(r, "blocked_tags"),
+            str(r, "conditions_json"), str(r, "text_template"), num(r, "weight"), num(r, "priority"))),
+        rows(db, "strategy_card_pool", r -> new StrategyCardRow(
+            lng(r, "id"), StrategyCardType.valueOf(str(r, "card_type")), Tone.valueOf(str(r, "tone")),
+            num(r, "min_score"), num(r, "max_score"), str(r, "required_tags"), str(r, "blocked_tags"),
+            str(r, "conditions_json"), str(r, "title_template"), str(r, "body_template"),
+            str(r, "footer_template"), num(r, "weight"), num(r, "priority"), str(r, "tags"))),
+        rows(db, "phrase_pool", r -> new PhraseRow(
+            lng(r, "id"), str(r, "slot_key"), Tone.valueOf(str(r, "tone")), str(r, "text"), num(r, "weight"))),
+        rows(db, "strategy_slot_pool", r -> new StrategySlotRow(
+            lng(r, "id"), str(r, "slot_key"), Tone.valueOf(str(r, "tone")), str(r, "text"), num(r, "weight"))),
+        rows(db, "style_profile", r -> new StyleRow(
+            lng(r, "id"), Tone.valueOf(str(r, "tone")), num(r, "emoji_rate"), str(r, "heading_style"))),
+        rows(db, "strategy_rule_map", r -> new RuleMapRow(
+            lng(r, "id"), ScoreBand.valueOf(str(r, "score_band")), str(r, "mandatory_types"),
+            str(r, "optional_types"), num(r, "max_cards"), str(r, "dedupe_key_rules"))),
+        rows(db, "keyword_dictionary", r -> new KeywordRow(
+            lng(r, "id"), str(r, "keyword"), str(r, "normalized"), str(r, "tag"))),
+        rows(db, "keyword_rule", r -> new KeywordRuleRow(
+            lng(r, "id"), lng(r, "keyword_id"), num(r, "score_delta"), str(r, "tag"), str(r, "description"),
+            num(r, "weight"))),
+        rows(db, "choice", r -> new ChoiceRow(num(r, "id"), num(r, "value"), str(r, "label")))
+    );
+  }
+
+  /** table name -> rows (column name -> String / BigDecimal / null), ordered by id. */
+  public static Map<String, List<Map<String, Object>>> loadSeeds() {
+    Resource[] scripts;
+    try {
+      scripts = new PathMatchingResourcePatternResolver().getResources("classpath*:db/migration/V*__*.sql");
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    Arrays.sort(scripts, Comparator.comparingInt(SeedSqlContentSource::version));
+
+    Map<String, List<Map<String, Object>>> db = new HashMap<>();
+    for (Resource script : scripts) {
+      try {
+        new Parser(script.getContentAsString(StandardCharsets.UTF_8), db).parse();
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+    for (List<Map<String, Object>> table : db.values()) {
+      table.sort(Comparator.comparingLong(r -> ((BigDecimal) r.get("id")).longValueExact()));
+    }
+    return db;
+  }
+
+  private static int version(Resource r) {
+    Matcher m = VERSION.matcher(Objects.requireNonNull(r.getFilename()));
+    if (!m.find()) throw new IllegalStateException("Not a versioned migration: " + r.getFilename());
+    return Integer.parseInt(m.group(1));
+  }
+
+  private static <T> List<T> rows(Map<String, List<Map<String, Object>>> db, String table, Function<Map<String, Object>, T> fn) {
+    return db.getOrDefault(table, List.of()).stream().map(fn).toList();
+  }
+
+  private static String str(Map<String, Object> r, String col) {
+    Object v = r.get(col);
+    return v == null ? null : v.toString();
+  }
+
+  private static int num(Map<String, Object> r, String col) {
+    return ((BigDecimal) r.get(col)).intValueExact();
+  }
+
+  private static long lng(Map<String, Object> r, String col) {
+    return ((BigDecimal) r.get(col)).longValueExact();
+  }
+
+  private static Axis axisOrNull(String name) {
+    return name == null ? null : Axis.valueOf(name);
+  }
+
+  private static final class Parser {
+    private final String sql;
+    private final Map<String, List<Map<String, Object>>> db;
+    private int pos;
+
+    Parser(String sql, Map<String, List<Map<String, Object>>> db) {
+      this.sql = sql;
+      this.db = db;
+    }
+
+    void parse() {
+      while (true) {
+        skipSpaceAndComments();
+        if (pos >= sql.length()) return;
+        if (!peekWord("INSERT")) {
+          skipStatement();
+          continue;
+        }
+        expectWord("INSERT");
+        expectWord("INTO");
+        String table = identifier();
+        List<String> cols = new ArrayList<>();
+        expect('(');
+        do {
+          cols.add(identifier());
+        } while (accept(','));
+        expect(')');
+        expectWord("VALUES");
+
+        List<Map<String, Object>> rows = db.computeIfAbsent(table, k -> new ArrayList<>());
+        do {
+          expect('(');
+          Map<String, Object> row = new HashMap<>();
+          int i = 0;
+          do {
+            if (i >= cols.size()) throw error("too many values for " + table);
+            row.put(cols.get(i++), value());
+          } while (accept(','));
+          expect(')');
+          if (i != cols.size()) throw error("too few values for " + table);
+          if (!row.containsKey("id")) row.put("id", BigDecimal.valueOf(nextId(rows)));
+          rows.add(row);
+        } while (accept(','));
+        expect(';');
+      }
+    }
+
+    private static long nextId(List<Map<String, Object>> rows) {
+      long max = 0;
+      for (Map<String, Object> r : rows) max = Math.max(max, ((BigDecimal) r.get("id")).longValueExact());
+      return max + 1;
+    }
+
+    private Object value() {
+      skipSpaceAndComments();
+      char c = sql.charAt(pos);
+      if (c == '\'') {
+        StringBuilder sb = new StringBuilder();
+        pos++;
+        while (true) {
+          char ch = sql.charAt(pos++);
+          if (ch == '\'') {
+            if (pos < sql.length() && sql.charAt(pos) == '\'') {
+              sb.append('\'');
+              pos++;
+              continue;
+            }
+            return sb.toString();
+          }
+          sb.append(ch);
+        }
+      }
+      if (peekWord("NULL")) {
+        expectWord("NULL");
+        return null;
+      }
+      int start = pos;
+      while (pos < sql.length() && "+-.0123456789".indexOf(sql.charAt(pos)) >= 0) pos++;
+      if (start == pos) throw error("unsupported value");
+      return new BigDecimal(sql.substring(start, pos));
+    }
+
+    private String identifier() {
+      skipSpaceAndComments();
+      int start = pos;
+      while (pos < sql.length() && (Character.isLetterOrDigit(sql.charAt(pos)) || sql.charAt(pos) == '_')) pos++;
+      if (start == pos) throw error("identifier expected");
+      return sql.substring(start, pos).toLowerCase(Locale.ROOT);
+    }
+
+    private boolean peekWord(String word) {
+      skipSpaceAndComments();
+      return sql.regionMatches(true, pos, word, 0, word.length());
+    }
+
+    private void expectWord(String word) {
+      if (!peekWord(word)) throw error(word + " expected");
+      pos += word.length();
+    }
+
+    private boolean accept(char c) {
+      skipSpaceAndComments();
+      if (pos < sql.length() && sql.charAt(pos) == c) {
+        pos++;
+        return true;
+      }
+      return false;
+    }
+
+    private void expect(char c) {
+      if (!accept(c)) throw error("'" + c + "' expected");
+    }
+
+    private void skipStatement() {
+      boolean inString = false;
+      while (pos < sql.length()) {
+        char c = sql.charAt(pos++);
+        if (c == '\'') inString = !inString;
+        else if (c == ';' && !inString) return;
+      }
+    }
+
+    private void skipSpaceAndComments() {
+      while (pos < sql.length()) {
+        if (Character.isWhitespace(sql.charAt(pos))) {
+          pos++;
+        } else if (sql.startsWith("--", pos)) {
+          int eol = sql.indexOf('\n', pos);
+          pos = eol < 0 ? sql.length() : eol + 1;
+        } else {
+          return;
+        }
+      }
+    }
+
+    private IllegalStateException error(String message) {
+      int line = 1;
+      for (int i = 0; i < Math.min(pos, sql.length()); i++) if (sql.charAt(i) == '\n') line++;
+      return new IllegalStateException("Seed SQL line " + line + ": " + message);
+    }
+  }
+}
@@ -0,0 +1,69 @@
+package com.todaylotto.backend.service;
+
+import com.todaylotto.backend.api.dto.PostScoreResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ScoreCacheTest {
+
+  @Test
+  void slowComputeBlocksNeitherOtherKeysNorComputesTwice() throws Exception {
+    ScoreCache cache = new ScoreCache(1 << 20);
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicInteger computes = new AtomicInteger();
+
+    CompletableFuture<PostScoreResponse> slow = CompletableFuture.supplyAsync(() -> cache.get("slow", () -> {
+      computes.incrementAndGet();
+      await(release);
+      return response(1);
+    }));
+    while (computes.get() == 0) Thread.onSpinWait();
+    CompletableFuture<PostScoreResponse> waiter = CompletableFuture.supplyAsync(
+        () -> cache.get("slow", () -> response(2)));
+
+    // every other key is served while "slow" is still computing
+    for (int i = 0; i < 1000; i++) {
+      int score = i;
+      assertThat(cache.get("k" + i, () -> response(score)).score()).isEqualTo(i);
+    }
+    assertThat(waiter).isNotDone();
+
+    release.countDown();
+    assertThat(slow.get(5, TimeUnit.SECONDS).score()).isEqualTo(1);
+    assertThat(waiter.get(5, TimeUnit.SECONDS).score()).isEqualTo(1);
+    assertThat(computes.get()).isEqualTo(1);
+  }
+
+  @Test
+  void failedComputeIsRethrownAndNotCached() {
+    ScoreCache cache = new ScoreCache(1 << 20);
+    assertThatThrownBy(() -> cache.get("k", () -> {
+      throw new IllegalArgumentException("bad input");
+    })).isInstanceOf(IllegalArgumentException.class);
+
+    assertThat(cache.get("k", () -> response(7)).score()).isEqualTo(7);
+    assertThat(cache.peek("k").score()).isEqualTo(7);
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static PostScoreResponse response(int score) {
+    return new PostScoreResponse(
+        "결론", score, "등급", "WARM", Map.of(), List.of(), null, List.of(), List.of(), "", null, "공유");
+  }
+}
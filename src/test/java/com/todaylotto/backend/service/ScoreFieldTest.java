@@ -0,0 +1,35 @@
+package com.todaylotto.backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ScoreFieldTest {
+
+  @Test
+  void modeSelectsAllOrNothing() {
+    assertThat(ScoreField.parse(null, null)).isEqualTo(ScoreField.ALL);
+    assertThat(ScoreField.parse("FULL", "")).isEqualTo(ScoreField.ALL);
+    assertThat(ScoreField.parse("lite", null)).isEmpty();
+    assertThatThrownBy(() -> ScoreField.parse("compact", null)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void fieldsWinOverModeAndIgnoreAlwaysReturnedNames() {
+    assertThat(ScoreField.parse("lite", "score, longformText,strategyCards"))
+        .containsExactlyInAnyOrder(ScoreField.LONGFORM_TEXT, ScoreField.STRATEGY_CARDS);
+    assertThat(ScoreField.parse("full", "score,grade")).isEmpty();
+    assertThatThrownBy(() -> ScoreField.parse(null, "longform")).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void fullFieldSetKeysLikeAFullResponse() {
+    String full = ScoreCache.key(1, 3, "seed", List.of(), null);
+    assertThat(ScoreCache.key(1, 3, "seed", List.of(), null, ScoreField.parse(null, "stateVector,tags,"
+        + "signals,strategyCards,cards,longformText,breakdown,shareText"))).isEqualTo(full);
+    assertThat(ScoreCache.key(1, 3, "seed", List.of(), null, ScoreField.NONE)).isNotEqualTo(full);
+  }
+}
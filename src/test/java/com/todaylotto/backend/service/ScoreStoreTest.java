@@ -0,0 +1,124 @@
+package com.todaylotto.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.todaylotto.backend.api.dto.BreakdownDto;
+import com.todaylotto.backend.api.dto.KeywordMatchDto;
+import com.todaylotto.backend.api.dto.PostScoreResponse;
+import com.todaylotto.backend.api.dto.ResultCardDto;
+import com.todaylotto.backend.repo.HoroscopeCacheRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScoreStoreTest {
+
+  @Test
+  void writesAreBatchedAndReadBack() throws InterruptedException {
+    InMemoryRepository repo = new InMemoryRepository();
+    ScoreStore store = store(repo, true, 4);
+    store.start();
+    for (int i = 0; i < 10; i++) store.put("k" + i, response(i));
+    store.stop();
+
+    assertThat(repo.rows).hasSize(10);
+    assertThat(repo.batchSizes).allSatisfy(size -> assertThat(size).isLessThanOrEqualTo(4));
+    assertThat(store.get("k7")).contains(response(7));
+    assertThat(store.get("missing")).isEmpty();
+  }
+
+  @Test
+  void expiredRowsAreMissesAndArePurgedInChunks() throws InterruptedException {
+    InMemoryRepository repo = new InMemoryRepository();
+    LocalDateTime old = LocalDateTime.now().minusDays(4);
+    for (int i = 0; i < 7; i++) repo.rows.put("old" + i, new HoroscopeCacheRepository.Row("old" + i, old, "{}"));
+    repo.rows.put("fresh", new HoroscopeCacheRepository.Row("fresh", LocalDateTime.now(), "{}"));
+    ScoreStore store = store(repo, true, 4);
+    store.start();
+
+    assertThat(store.get("old0")).isEmpty();
+    store.purgeExpired();
+    assertThat(repo.rows.keySet()).containsExactly("fresh");
+    assertThat(repo.deleteCalls).isEqualTo(3);
+    store.stop();
+  }
+
+  @Test
+  void rewritingAnExpiredKeyRefreshesIt() throws InterruptedException {
+    InMemoryRepository repo = new InMemoryRepository();
+    repo.rows.put("k", new HoroscopeCacheRepository.Row("k", LocalDateTime.now().minusDays(4), "{}"));
+    ScoreStore store = store(repo, true, 4);
+    store.start();
+    assertThat(store.get("k")).isEmpty();
+
+    store.put("k", response(42));
+    store.stop();
+    assertThat(store.get("k")).contains(response(42));
+  }
+
+  @Test
+  void disabledStoreNeverTouchesTheRepository() throws InterruptedException {
+    ScoreStore store = store(null, false, 4);
+    store.start();
+    store.put("k", response(1));
+    store.purgeExpired();
+    assertThat(store.get("k")).isEmpty();
+    store.stop();
+  }
+
+  private static ScoreStore store(HoroscopeCacheRepository repo, boolean enabled, int batchSize) {
+    return new ScoreStore(
+        repo, new ObjectMapper(), new SimpleMeterRegistry(), enabled, Duration.ofDays(3), 100, batchSize, 3);
+  }
+
+  private static PostScoreResponse response(int score) {
+    return new PostScoreResponse(
+        "결론", score, "등급", "WARM", Map.of("OPTIMISM", 50), List.of("LUCKY_VIBE"), null, List.of(),
+        List.of(new ResultCardDto("INSIGHT", "한 줄 코멘트", "본문")), "## 오프닝",
+        new BreakdownDto(List.of(), List.of(), List.of(new KeywordMatchDto("돼지", "행운", 3, "LUCKY_VIBE"))),
+        "공유");
+  }
+
+  private static final class InMemoryRepository extends HoroscopeCacheRepository {
+    final Map<String, Row> rows = new ConcurrentHashMap<>();
+    final List<Integer> batchSizes = new ArrayList<>();
+    int deleteCalls;
+
+    InMemoryRepository() {
+      super(null);
+    }
+
+    @Override
+    public Optional<String> findResponseJson(String cacheKey, LocalDateTime notBefore) {
+      Row row = rows.get(cacheKey);
+      return row == null || row.createdAt().isBefore(notBefore) ? Optional.empty() : Optional.of(row.responseJson());
+    }
+
+    @Override
+    public synchronized void upsertAll(List<Row> batch) {
+      batchSizes.add(batch.size());
+      for (Row r : batch) rows.put(r.cacheKey(), r);
+    }
+
+    @Override
+    public int deleteCreatedBefore(LocalDateTime cutoff, int limit) {
+      deleteCalls++;
+      List<String> expired = rows.values().stream()
+          .filter(r -> r.createdAt().isBefore(cutoff))
+          .sorted((a, b) -> a.createdAt().compareTo(b.createdAt()))
+          .limit(limit)
+          .map(Row::cacheKey)
+          .toList();
+      expired.forEach(rows::remove);
+      return expired.size();
+    }
+  }
+}
@@ -0,0 +1,213 @@
+package com.todaylotto.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.todaylotto.backend.api.dto.AnswerDto;
+import com.todaylotto.backend.api.dto.PostScoreRequest;
+import com.todaylotto.backend.api.dto.PostScoreResponse;
+import com.todaylotto.backend.api.dto.ScoreVariantDto;
+import com.todaylotto.backend.api.dto.SensitivityResponse;
+import com.todaylotto.backend.content.ContentCatalog;
+import com.todaylotto.backend.content.ContentTables;
+import com.todaylotto.backend.content.ContentTables.QuestionRow;
+import com.todaylotto.backend.content.SeedSqlContentSource;
+import com.todaylotto.backend.domain.SystemTags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScoringServiceTest {
+  private static final ContentTables TABLES = new SeedSqlContentSource().load();
+  private static final List<String> EXTRA_TEXTS = List.of(
+      "", "월급날이라 기분 좋아! 로또 한 장?", "스트레스 받아서 충동구매 할 것 같아", "꿈에서 돼지를 봤어요 ㅋㅋ 느낌이 좋다");
+
+  // no cache, so every score() runs the full pipeline it is compared against
+  private final ScoringService service = scoringService(false, 0);
+
+  @Test
+  void streamedSectionsJoinToLongformText() {
+    for (PostScoreRequest req : requests(200, 11L)) {
+      PostScoreResponse full = service.score(req);
+      ScoringService.ReportStream stream = service.reportStream(req);
+      List<String> sections = new ArrayList<>();
+      stream.sections((index, section, markdown) -> {
+        assertThat(index).isEqualTo(sections.size());
+        sections.add(markdown);
+      });
+
+      assertThat(String.join("\n\n", sections)).isEqualTo(full.longformText());
+      PostScoreResponse summary = stream.summary();
+      assertThat(summary.actionConclusion()).isEqualTo(full.actionConclusion());
+      assertThat(summary.score()).isEqualTo(full.score());
+      assertThat(summary.grade()).isEqualTo(full.grade());
+      assertThat(summary.tone()).isEqualTo(full.tone());
+    }
+  }
+
+  @Test
+  void sensitivityVariantsEqualFullRescores() {
+    for (PostScoreRequest req : requests(40, 21L)) {
+      SensitivityResponse sensitivity = service.sensitivity(req);
+      PostScoreResponse own = service.score(req);
+      assertThat(sensitivity.score()).isEqualTo(own.score());
+      assertThat(sensitivity.grade()).isEqualTo(own.grade());
+      assertThat(warned(sensitivity.warningLevel())).isEqualTo(warned(own));
+      assertThat(sensitivity.variants()).hasSize(req.answers().size() * 5);
+
+      for (int i = 0; i < sensitivity.variants().size(); i++) {
+        ScoreVariantDto variant = sensitivity.variants().get(i);
+        AnswerDto original = req.answers().get(i / 5);
+        assertThat(variant.questionId()).isEqualTo(original.questionId());
+        assertMatches(variant, service.score(withAnswer(req, i / 5, variant.value())));
+      }
+    }
+  }
+
+  @Test
+  void whatIfEqualsFullRescore() {
+    for (PostScoreRequest req : requests(100, 31L)) {
+      for (int value = 1; value <= 5; value++) {
+        // whatIf changes the first answer with that question id
+        long questionId = req.answers().get(value % req.answers().size()).questionId();
+        int index = 0;
+        while (req.answers().get(index).questionId() != questionId) index++;
+
+        ScoreVariantDto variant = service.whatIf(req, questionId, value);
+        assertThat(variant.questionId()).isEqualTo(questionId);
+        assertThat(variant.value()).isEqualTo(value);
+        assertMatches(variant, service.score(withAnswer(req, index, value)));
+      }
+    }
+  }
+
+  @Test
+  void parallelStagesGiveTheSequentialResponse() {
+    List<PostScoreRequest> requests = requests(300, 41L);
+    ScoringService parallel = scoringService(true, 2);
+    try {
+      for (PostScoreRequest req : requests) assertThat(parallel.score(req)).isEqualTo(service.score(req));
+      // concurrent callers saturate the 2 stage threads, so some stages also run inline on the caller
+      List<PostScoreResponse> concurrent = requests.parallelStream().map(parallel::score).toList();
+      for (int i = 0; i < requests.size(); i++) {
+        assertThat(concurrent.get(i)).isEqualTo(service.score(requests.get(i)));
+      }
+    } finally {
+      parallel.shutdown();
+    }
+  }
+
+  @Test
+  void detachedScoresMatchAndAreNotCached() {
+    ScoreCache cache = new ScoreCache(64L * 1024 * 1024);
+    ScoringService cached = scoringService(cache, false, 0);
+    ContentCatalog catalog = new ContentCatalog(() -> TABLES);
+    catalog.init();
+    for (PostScoreRequest req : requests(50, 51L)) {
+      PostScoreResponse detached = cached.scoreDetached(catalog.current(), req);
+      assertThat(detached).isEqualTo(service.score(req));
+      assertThat(cache.entries()).isZero();
+    }
+
+    PostScoreRequest req = requests(1, 52L).get(0);
+    PostScoreResponse interactive = cached.score(req);
+    assertThat(cached.scoreDetached(catalog.current(), req)).isSameAs(interactive);
+  }
+
+  @Test
+  void statsCountEveryServedResponseOnce() {
+    ContentCatalog catalog = new ContentCatalog(() -> TABLES);
+    catalog.init();
+    ScoreStats stats = new ScoreStats(catalog, new SimpleMeterRegistry(), true, 20, 60);
+    ScoringService cached = scoringService(new ScoreCache(64L * 1024 * 1024), stats, false, 0);
+    PostScoreRequest req = requests(1, 61L).get(0);
+
+    PostScoreResponse lite = cached.score(req, ScoreField.NONE);
+    for (int i = 0; i < 5; i++) cached.score(req);
+    cached.reportStream(req).sections((index, section, markdown) -> {});
+    cached.sensitivity(req);
+    stats.roll();
+
+    ScoreStats.Window window = stats.windows().get(0);
+    assertThat(window.requests()).isEqualTo(8);
+    assertThat(window.score().mean()).isEqualTo(lite.score());
+    assertThat(window.score().max()).isEqualTo(lite.score());
+    assertThat(window.warningRate()).isIn(0.0, 1.0);
+  }
+
+  private static void assertMatches(ScoreVariantDto variant, PostScoreResponse full) {
+    assertThat(variant.score()).isEqualTo(full.score());
+    assertThat(variant.grade()).isEqualTo(full.grade());
+    assertThat(warned(variant.warningLevel())).isEqualTo(warned(full));
+  }
+
+  private static boolean warned(String warningLevel) {
+    return !"NONE".equals(warningLevel);
+  }
+
+  // a full response only shows whether a warning fired (the DONT_BUY_TODAY tag), not its level
+  private static boolean warned(PostScoreResponse full) {
+    return full.tags().contains(SystemTags.DONT_BUY_TODAY);
+  }
+
+  private static PostScoreRequest withAnswer(PostScoreRequest req, int index, int value) {
+    List<AnswerDto> answers = new ArrayList<>(req.answers());
+    answers.set(index, new AnswerDto(answers.get(index).questionId(), value));
+    return new PostScoreRequest(req.birthDate(), req.sessionSeed(), answers, req.extraText());
+  }
+
+  private static ScoringService scoringService(boolean parallelStages, int stageThreads) {
+    return scoringService(new ScoreCache(0), parallelStages, stageThreads);
+  }
+
+  private static ScoringService scoringService(ScoreCache cache, boolean parallelStages, int stageThreads) {
+    ContentCatalog catalog = new ContentCatalog(() -> TABLES);
+    catalog.init();
+    return scoringService(cache, new ScoreStats(catalog, new SimpleMeterRegistry(), false, 20, 60),
+        parallelStages, stageThreads);
+  }
+
+  private static ScoringService scoringService(
+      ScoreCache cache, ScoreStats stats, boolean parallelStages, int stageThreads) {
+    ContentCatalog catalog = new ContentCatalog(() -> TABLES);
+    catalog.init();
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    return new ScoringService(
+        new KeywordService(),
+        new LongformService(),
+        new StrategyService(),
+        new MessageService(),
+        catalog,
+        cache,
+        new ScoreStore(null, new ObjectMapper(), registry, false, Duration.ofDays(3), 1, 1, 1),
+        new ScoreMetrics(registry, cache, false),
+        stats,
+        parallelStages,
+        stageThreads
+    );
+  }
+
+  private static List<PostScoreRequest> requests(int count, long seed) {
+    List<QuestionRow> questions = TABLES.questions();
+    SplittableRandom random = new SplittableRandom(seed);
+    List<PostScoreRequest> out = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      List<AnswerDto> answers = new ArrayList<>(6);
+      for (int k = 0; k < 6; k++) {
+        answers.add(new AnswerDto(questions.get(random.nextInt(questions.size())).id(), 1 + random.nextInt(5)));
+      }
+      out.add(new PostScoreRequest(
+          String.format("1990-%02d-15", 1 + random.nextInt(12)),
+          new UUID(random.nextLong(), random.nextLong()).toString(),
+          answers,
+          EXTRA_TEXTS.get(random.nextInt(EXTRA_TEXTS.size()))
+      ));
+    }
+    return out;
+  }
+}
@@ -0,0 +1,49 @@
+package com.todaylotto.backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SessionSeedGeneratorTest {
+
+  @Test
+  void seedsAreUuidsCarryingTheNodeId() {
+    for (boolean timeOrdered : new boolean[] {false, true}) {
+      SessionSeedGenerator gen = new SessionSeedGenerator(4242, timeOrdered);
+      for (int i = 0; i < 1_000; i++) {
+        String seed = gen.next();
+        UUID uuid = UUID.fromString(seed);
+        assertThat(uuid.toString()).isEqualTo(seed);
+        assertThat(uuid.version()).isEqualTo(timeOrdered ? 7 : 4);
+        assertThat(uuid.variant()).isEqualTo(2);
+        assertThat((int) ((uuid.getLeastSignificantBits() >>> 48) & SessionSeedGenerator.MAX_NODE_ID)).isEqualTo(4242);
+      }
+    }
+  }
+
+  @Test
+  void seedsAreUnique() {
+    SessionSeedGenerator gen = new SessionSeedGenerator(1, false);
+    Set<String> seen = new HashSet<>();
+    for (int i = 0; i < 100_000; i++) assertThat(seen.add(gen.next())).isTrue();
+  }
+
+  @Test
+  void timeOrderedSeedsCarryTheClock() {
+    SessionSeedGenerator gen = new SessionSeedGenerator(0, true);
+    long before = System.currentTimeMillis();
+    long millis = gen.nextUuid().getMostSignificantBits() >>> 16;
+    assertThat(millis).isBetween(before, System.currentTimeMillis());
+  }
+
+  @Test
+  void rejectsNodeIdOutOfRange() {
+    assertThatThrownBy(() -> new SessionSeedGenerator(SessionSeedGenerator.MAX_NODE_ID + 1, false))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
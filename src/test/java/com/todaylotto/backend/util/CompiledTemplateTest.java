@@ -0,0 +1,77 @@
+package com.todaylotto.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompiledTemplateTest {
+
+  private static final List<String> TEMPLATES = List.of(
+      "",
+      "no slots here",
+      "{MOOD_PHRASE}",
+      "오늘은 {MOOD_PHRASE}. {TIP_PHRASE} {MOOD_PHRASE}!",
+      "{BUDGET_SMALL} 안에서 {BUY_COUNT}장, {STOP_RULE}",
+      "{{A}} {lower} {A_B} {} {ONLY_OPEN {X1}}",
+      "$1 \\ {CTA} $2",
+      "끝 {TIME_WINDOW}"
+  );
+
+  @Test
+  void renderMatchesRegexRenderer() {
+    for (String template : TEMPLATES) {
+      CompiledTemplate compiled = CompiledTemplate.compile(key -> 0, template);
+      Map<String, String> values = valuesFor(compiled);
+
+      assertThat(compiled.render(0, array(compiled, values)))
+          .as(template)
+          .isEqualTo(TemplateRenderer.render(template, values));
+    }
+  }
+
+  @Test
+  void slotOrderMatchesExtractSlotsOnJoinedParts() {
+    for (int i = 0; i + 2 < TEMPLATES.size(); i++) {
+      String title = TEMPLATES.get(i);
+      String body = TEMPLATES.get(i + 1);
+      String footer = i % 2 == 0 ? null : TEMPLATES.get(i + 2);
+
+      CompiledTemplate compiled = CompiledTemplate.compile(key -> 0, title, body, footer);
+      List<String> order = new ArrayList<>();
+      for (int s = 0; s < compiled.slotCount(); s++) order.add(compiled.slotKey(s));
+
+      assertThat(order)
+          .isEqualTo(new ArrayList<>(TemplateRenderer.extractSlots(title + "\n" + body + "\n" + footer)));
+
+      Map<String, String> values = valuesFor(compiled);
+      String[] byId = array(compiled, values);
+      assertThat(compiled.render(1, byId)).isEqualTo(TemplateRenderer.render(body, values));
+      assertThat(compiled.render(2, byId)).isEqualTo(TemplateRenderer.render(footer, values));
+    }
+  }
+
+  @Test
+  void unknownSlotsResolveToMinusOne() {
+    CompiledTemplate compiled = CompiledTemplate.compile(key -> key.equals("KNOWN") ? 7 : -1, "{KNOWN} {UNKNOWN}");
+    for (int s = 0; s < compiled.slotCount(); s++) {
+      assertThat(compiled.slotRef(s)).isEqualTo(compiled.slotKey(s).equals("KNOWN") ? 7 : -1);
+    }
+  }
+
+  private static Map<String, String> valuesFor(CompiledTemplate compiled) {
+    Map<String, String> values = new HashMap<>();
+    for (int s = 0; s < compiled.slotCount(); s++) values.put(compiled.slotKey(s), "<" + s + "$>");
+    return values;
+  }
+
+  private static String[] array(CompiledTemplate compiled, Map<String, String> values) {
+    String[] out = new String[compiled.slotCount()];
+    for (int s = 0; s < out.length; s++) out[s] = values.get(compiled.slotKey(s));
+    return out;
+  }
+}
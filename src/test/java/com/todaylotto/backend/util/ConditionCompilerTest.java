@@ -0,0 +1,94 @@
+package com.todaylotto.backend.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.todaylotto.backend.domain.Axis;
+import com.todaylotto.backend.domain.AxisVector;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConditionCompilerTest {
+
+  private final ConditionEvaluator evaluator = new ConditionEvaluator(new ObjectMapper());
+  private final TagDictionary dictionary = TagDictionary.of(List.of("LUCKY_VIBE", "MONEY_TIGHT", "STRESS_HIGH"));
+
+  private static final List<String> DOCUMENTS = List.of(
+      "",
+      "{}",
+      "{\"all\": []}",
+      "{\"any\": []}",
+      "{\"all\": [{\"type\": \"axis\", \"axis\": \"STABILITY\", \"op\": \"<=\", \"value\": 40}]}",
+      "{\"all\": [{\"type\": \"axis\", \"axis\": \"ENERGY\", \"op\": \">=\", \"value\": 65}]}",
+      "{\"all\": [{\"type\": \"axis\", \"axis\": \"RISK\", \"op\": \">\", \"value\": \"50\"},"
+          + " {\"type\": \"score\", \"op\": \"<\", \"value\": 70}]}",
+      "{\"any\": [{\"type\": \"tag\", \"op\": \"has\", \"value\": \"MONEY_TIGHT\"},"
+          + " {\"type\": \"score\", \"op\": \"==\", \"value\": 55}]}",
+      "{\"all\": [{\"type\": \"tag\", \"op\": \"not\", \"value\": \"LUCKY_VIBE\"},"
+          + " {\"any\": [{\"type\": \"axis\", \"axis\": \"OPTIMISM\", \"op\": \"!=\", \"value\": 50}]}]}",
+      "{\"type\": \"score\", \"op\": \">=\", \"value\": 30}"
+  );
+
+  @Test
+  void compiledConditionsMatchEvaluator() {
+    for (String doc : DOCUMENTS) {
+      Condition compiled = ConditionCompiler.compile(doc, dictionary);
+      for (int score = 0; score <= 100; score += 5) {
+        for (int axisValue = 20; axisValue <= 80; axisValue += 10) {
+          for (List<String> names : List.of(List.<String>of(), List.of("MONEY_TIGHT"), List.of("LUCKY_VIBE", "STRESS_HIGH"))) {
+            TagSet tags = dictionary.newSet();
+            names.forEach(tags::add);
+            ConditionContext ctx = new ConditionContext(score, axes(axisValue), tags);
+            assertThat(compiled.test(ctx))
+                .as("%s score=%d axis=%d tags=%s", doc, score, axisValue, names)
+                .isEqualTo(evaluator.matches(doc, ctx));
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  void tagSetMasksMatchStringSemantics() {
+    TagSet tags = dictionary.newSet();
+    tags.add("MONEY_TIGHT");
+    tags.add(" LUCKY_VIBE ");
+
+    assertThat(tags.names()).isEqualTo(List.of("LUCKY_VIBE", "MONEY_TIGHT"));
+    assertThat(tags.containsAll(dictionary.mask(""))).isTrue();
+    assertThat(tags.containsAll(dictionary.mask("MONEY_TIGHT, LUCKY_VIBE"))).isTrue();
+    assertThat(tags.containsAll(dictionary.mask("MONEY_TIGHT,STRESS_HIGH"))).isFalse();
+    assertThat(tags.containsAny(dictionary.mask(null))).isFalse();
+    assertThat(tags.containsAny(dictionary.mask("STRESS_HIGH,LUCKY_VIBE"))).isTrue();
+    assertThat(tags.contains("UNKNOWN")).isFalse();
+    assertThatThrownBy(() -> dictionary.mask("UNKNOWN")).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void malformedDocumentsAreRejectedAtCompileTime() {
+    for (String doc : List.of(
+        "{not json",
+        "[]",
+        "{\"all\": {\"type\": \"score\"}}",
+        "{\"all\": [1]}",
+        "{\"type\": \"weather\"}",
+        "{\"type\": \"axis\", \"axis\": \"LUCK\", \"op\": \">=\", \"value\": 1}",
+        "{\"type\": \"axis\", \"axis\": \"RISK\", \"op\": \"~\", \"value\": 1}",
+        "{\"type\": \"score\", \"op\": \">=\"}",
+        "{\"type\": \"score\", \"op\": \">=\", \"value\": \"high\"}",
+        "{\"type\": \"tag\", \"op\": \"maybe\", \"value\": \"X\"}",
+        "{\"foo\": 1}")) {
+      assertThatThrownBy(() -> ConditionCompiler.compile(doc, dictionary))
+          .as(doc)
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+
+  private static AxisVector axes(int value) {
+    AxisVector axes = AxisVector.filled(value);
+    axes.set(Axis.OPTIMISM, 50);
+    return axes;
+  }
+}
@@ -0,0 +1,47 @@
+package com.todaylotto.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CountMinSketchTest {
+
+  @Test
+  void estimatesNeverUndercountAndAreExactWhenSparse() {
+    CountMinSketch sketch = new CountMinSketch(4, 4096);
+    Map<String, Integer> truth = new HashMap<>();
+    SplittableRandom gen = new SplittableRandom(11);
+    for (int i = 0; i < 20_000; i++) {
+      String key = "kw" + (int) Math.floor(Math.pow(gen.nextDouble(), 3) * 300);
+      truth.merge(key, 1, Integer::sum);
+      sketch.add(key);
+    }
+
+    int exact = 0;
+    for (Map.Entry<String, Integer> e : truth.entrySet()) {
+      long estimate = sketch.estimate(e.getKey());
+      assertThat(estimate).isGreaterThanOrEqualTo((long) e.getValue());
+      if (estimate == e.getValue()) exact++;
+    }
+    assertThat(exact).isGreaterThan(truth.size() * 9 / 10);
+    assertThat(sketch.estimate("never-added")).isLessThanOrEqualTo(5L);
+  }
+
+  @Test
+  void minusGivesCountsSinceTheSnapshot() {
+    CountMinSketch sketch = new CountMinSketch(3, 256);
+    for (int i = 0; i < 7; i++) sketch.add("돼지꿈");
+    CountMinSketch before = sketch.snapshot();
+    for (int i = 0; i < 4; i++) sketch.add("돼지꿈");
+    sketch.add("월급");
+
+    CountMinSketch window = sketch.snapshot().minus(before);
+    assertThat(window.estimate("돼지꿈")).isEqualTo(4L);
+    assertThat(window.estimate("월급")).isEqualTo(1L);
+    assertThat(before.estimate("월급")).isZero();
+  }
+}
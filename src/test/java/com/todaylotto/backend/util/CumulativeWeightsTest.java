@@ -0,0 +1,110 @@
+package com.todaylotto.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CumulativeWeightsTest {
+
+  private static final int SEEDS = 2_000;
+
+  @Test
+  void picksAreIdenticalToLinearPickerForEverySeed() {
+    SplittableRandom gen = new SplittableRandom(42);
+    for (int round = 0; round < 200; round++) {
+      int[] weights = randomWeights(gen);
+      List<Integer> items = indexes(weights.length);
+      CumulativeWeights table = CumulativeWeights.of(weights);
+
+      for (int s = 0; s < SEEDS / 100; s++) {
+        String seed = new UUID(gen.nextLong(), gen.nextLong()).toString();
+        SeededRng linear = new SeededRng(seed);
+        SeededRng binary = new SeededRng(seed);
+        for (int draw = 0; draw < 20; draw++) {
+          Integer expected = WeightedPicker.pickWeighted(items, i -> weights[i], linear);
+          assertThat(table.pick(binary)).isEqualTo(expected == null ? -1 : expected);
+        }
+        // both consumed the same number of draws
+        assertThat(binary.nextLong(Long.MAX_VALUE)).isEqualTo(linear.nextLong(Long.MAX_VALUE));
+      }
+    }
+  }
+
+  @Test
+  void distributionMatchesLinearPicker() {
+    int[] weights = {5, 1, 0, 3, 1, 10};
+    List<Integer> items = indexes(weights.length);
+    CumulativeWeights table = CumulativeWeights.of(weights);
+
+    long[] linearCounts = new long[weights.length];
+    long[] binaryCounts = new long[weights.length];
+    for (int s = 0; s < SEEDS; s++) {
+      String seed = new UUID(s, ~s).toString();
+      linearCounts[WeightedPicker.pickWeighted(items, i -> weights[i], new SeededRng(seed))]++;
+      binaryCounts[table.pick(new SeededRng(seed))]++;
+    }
+    assertThat(binaryCounts).isEqualTo(linearCounts);
+    assertThat(binaryCounts[2]).isZero();
+  }
+
+  @Test
+  void emptyAndAllZeroWeights() {
+    assertThat(CumulativeWeights.of(new int[0]).pick(new SeededRng("x"))).isEqualTo(-1);
+
+    int[] zeros = {0, 0, 0};
+    SeededRng linear = new SeededRng("zero");
+    SeededRng binary = new SeededRng("zero");
+    for (int draw = 0; draw < 50; draw++) {
+      assertThat(CumulativeWeights.of(zeros).pick(binary))
+          .isEqualTo(WeightedPicker.pickWeighted(indexes(3), i -> zeros[i], linear));
+    }
+  }
+
+  @Test
+  void sampleMatchesLinearPickerOverRemainingItems() {
+    SplittableRandom gen = new SplittableRandom(7);
+    for (int round = 0; round < 300; round++) {
+      int[] weights = new int[1 + gen.nextInt(30)];
+      for (int i = 0; i < weights.length; i++) weights[i] = gen.nextInt(1, 12);
+      int k = 1 + gen.nextInt(weights.length + 2);
+      String seed = new UUID(gen.nextLong(), gen.nextLong()).toString();
+
+      SeededRng linear = new SeededRng(seed);
+      List<Integer> remaining = indexes(weights.length);
+      List<Integer> expected = new ArrayList<>();
+      while (expected.size() < k && !remaining.isEmpty()) {
+        Integer chosen = WeightedPicker.pickWeighted(remaining, i -> weights[i], linear);
+        expected.add(chosen);
+        remaining.remove(chosen);
+      }
+
+      SeededRng binary = new SeededRng(seed);
+      int[] sampled = CumulativeWeights.of(weights).sample(k, binary);
+      assertThat(sampled).containsExactly(expected.stream().mapToInt(Integer::intValue).toArray());
+      assertThat(binary.nextLong(Long.MAX_VALUE)).isEqualTo(linear.nextLong(Long.MAX_VALUE));
+    }
+  }
+
+  @Test
+  void sampleSkipsZeroWeightItems() {
+    int[] sampled = CumulativeWeights.of(new int[] {0, 3, 0, 2}).sample(4, new SeededRng("zero-tail"));
+    assertThat(sampled).containsExactlyInAnyOrder(1, 3);
+  }
+
+  private static int[] randomWeights(SplittableRandom gen) {
+    int[] weights = new int[1 + gen.nextInt(40)];
+    for (int i = 0; i < weights.length; i++) weights[i] = gen.nextInt(-2, 12);
+    return weights;
+  }
+
+  private static List<Integer> indexes(int n) {
+    List<Integer> out = new ArrayList<>(n);
+    for (int i = 0; i < n; i++) out.add(i);
+    return out;
+  }
+}
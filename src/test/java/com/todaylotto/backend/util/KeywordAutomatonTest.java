@@ -0,0 +1,54 @@
+package com.todaylotto.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KeywordAutomatonTest {
+
+  @Test
+  void findsExactlyThePatternsContainedInText() {
+    Random random = new Random(42);
+    String alphabet = "ab가나 ";
+    for (int round = 0; round < 2000; round++) {
+      List<String> patterns = new ArrayList<>();
+      for (int i = random.nextInt(12); i > 0; i--) patterns.add(randomText(random, alphabet, 4));
+      String text = randomText(random, alphabet, 30);
+
+      List<Integer> expected = new ArrayList<>();
+      for (int i = 0; i < patterns.size(); i++) {
+        String p = patterns.get(i);
+        if (!p.isBlank() && text.contains(p)) expected.add(i);
+      }
+
+      int[] hits = KeywordAutomaton.build(patterns).find(text);
+      List<Integer> actual = new ArrayList<>();
+      for (int h : hits) actual.add(h);
+      assertThat(actual).as("patterns=%s text=[%s]", patterns, text).isEqualTo(expected);
+    }
+  }
+
+  @Test
+  void normalizerMatchesRegexPipeline() {
+    Random random = new Random(7);
+    String alphabet = " \t\n　abcXYZ09가힣ㄱ!?.,Ａｂ①Ⅻß한글";
+    for (int round = 0; round < 5000; round++) {
+      String input = randomText(random, alphabet, 20);
+      String s = Normalizer.normalize(input.toLowerCase(Locale.ROOT), Normalizer.Form.NFKC);
+      s = s.replaceAll("[^0-9a-zA-Z가-힣\\s]", " ").replaceAll("\\s+", " ").trim();
+      assertThat(TextNormalizer.normalize(input)).as("[%s]", input).isEqualTo(s);
+    }
+  }
+
+  private static String randomText(Random random, String alphabet, int maxLength) {
+    StringBuilder sb = new StringBuilder();
+    for (int i = random.nextInt(maxLength + 1); i > 0; i--) sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+    return sb.toString();
+  }
+}
@@ -0,0 +1,33 @@
+package com.todaylotto.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SeededRngTest {
+
+  private static final String SEED = "6f1c2a3b-4d5e-4f60-8a7b-9c0d1e2f3a4b";
+
+  @Test
+  void forkDependsOnlyOnSeedAndKey() {
+    SeededRng untouched = new SeededRng(SEED);
+    SeededRng drained = new SeededRng(SEED);
+    for (int i = 0; i < 1_000; i++) drained.nextLong(Long.MAX_VALUE);
+
+    assertThat(draws(drained.fork("longform"))).isEqualTo(draws(untouched.fork("longform")));
+  }
+
+  @Test
+  void stagesGetDistinctStreams() {
+    SeededRng rng = new SeededRng(SEED);
+    assertThat(draws(rng.fork("strategy"))).isNotEqualTo(draws(rng.fork("cards")));
+    assertThat(draws(rng.fork("strategy"))).isNotEqualTo(draws(new SeededRng(SEED)));
+    assertThat(draws(rng.fork("strategy"))).isNotEqualTo(draws(new SeededRng("0f1c2a3b-4d5e-4f60-8a7b-9c0d1e2f3a4b").fork("strategy")));
+  }
+
+  private static long[] draws(SeededRng rng) {
+    long[] out = new long[16];
+    for (int i = 0; i < out.length; i++) out[i] = rng.nextLong(Long.MAX_VALUE);
+    return out;
+  }
+}